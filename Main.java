@@ -2,12 +2,24 @@ package com.transportation;
 
 import com.transportation.algorithms.PrimAlgorithm;
 import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.DialPrimAlgorithm;
+import com.transportation.algorithms.KKTAlgorithm;
+import com.transportation.algorithms.MSTAlgorithm;
+import com.transportation.algorithms.MSTSolver;
+import com.transportation.algorithms.MSTVerifier;
+import com.transportation.algorithms.MultilevelMSTAlgorithm;
+import com.transportation.algorithms.ParallelKruskalAlgorithm;
+import com.transportation.algorithms.ParallelPrimAlgorithm;
+import com.transportation.algorithms.SpanningForestAlgorithm;
 import com.transportation.model.Graph;
 import com.transportation.model.Edge;
+import com.transportation.model.GraphResult;
 import com.transportation.model.MSTResult;
+import com.transportation.model.SpanningForestResult;
 import com.transportation.utils.GraphGenerator;
 import com.transportation.utils.JSONFileHandler;
 import com.transportation.utils.CSVFileHandler;
+import com.transportation.utils.GraphCorpus;
 import com.transportation.analysis.PerformanceAnalyzer;
 import com.transportation.utils.VisualChartGenerator;
 
@@ -19,6 +31,8 @@ public class Main {
     private static final String OUTPUT_DIR = "output";
     private static final String GRAPHS_DIR = INPUT_DIR + "/graphs";
     private static final String INPUT_JSON = INPUT_DIR + "/input.json";
+    private static final String CORPUS_FILE = INPUT_DIR + "/graphs.corpus";
+    private static final String PROFILE_FILE = OUTPUT_DIR + "/mst_profile.properties";
 
     public static void main(String[] args) {
         try {
@@ -30,12 +44,19 @@ public class Main {
             createDirectories();
 
             List<Graph> graphs;
+            // "bench [pattern]" also times every engine on the selected graphs
+            boolean bench = args.length > 0 && "bench".equals(args[0]);
 
             // Check if we should generate new data or use existing
             if (args.length > 0 && "generate".equals(args[0])) {
                 System.out.println("Generating comprehensive test graphs using CUSTOM GRAPH STRUCTURE...");
                 graphs = generateAndSaveAllGraphs();
                 System.out.println("Successfully generated " + graphs.size() + " graphs using custom Graph class!");
+            } else if (args.length > 1 && ("select".equals(args[0]) || bench)) {
+                // Load only matching graphs from the indexed corpus
+                prepareCorpus();
+                graphs = readSelectedGraphs(args[1]);
+                System.out.println("Successfully read " + graphs.size() + " graphs matching '" + args[1] + "'!");
             } else {
                 // Check if input file exists
                 File inputFile = new File(INPUT_JSON);
@@ -55,7 +76,7 @@ public class Main {
 
             // Process graphs and generate outputs
             if (!graphs.isEmpty()) {
-                processGraphsAndGenerateOutputs(graphs);
+                processGraphsAndGenerateOutputs(graphs, bench);
             } else {
                 System.out.println("No graphs to process!");
             }
@@ -111,6 +132,47 @@ public class Main {
         System.out.println("Directories created successfully!");
     }
 
+    /**
+     * Makes sure the corpus exists and matches input.json.
+     * The corpus indexes the graphs of input.json for the select and bench modes;
+     * it is rebuilt when missing or older than input.json, so edits to that file are picked up.
+     */
+    private static void prepareCorpus() throws Exception {
+        File corpusFile = new File(CORPUS_FILE);
+        File inputFile = new File(INPUT_JSON);
+        if (!inputFile.exists()) {
+            System.out.println("Input file not found. Generating new test graphs using CUSTOM GRAPH STRUCTURE...");
+            generateAndSaveAllGraphs();
+        }
+        if (!corpusFile.exists() || inputFile.lastModified() > corpusFile.lastModified()) {
+            System.out.println("Indexing " + INPUT_JSON + " into " + CORPUS_FILE + "...");
+            GraphCorpus.write(JSONFileHandler.readGraphsFromFile(INPUT_JSON), CORPUS_FILE);
+        }
+    }
+
+    /**
+     * Loads graphs whose id or category matches the pattern.
+     * A trailing '*' matches by id prefix, e.g. "xlarge_*"
+     */
+    private static List<Graph> readSelectedGraphs(String pattern) throws Exception {
+        try (GraphCorpus corpus = GraphCorpus.open(CORPUS_FILE)) {
+            List<GraphCorpus.Entry> selection;
+            if (pattern.endsWith("*")) {
+                String prefix = pattern.substring(0, pattern.length() - 1);
+                selection = corpus.select(entry -> entry.getId().startsWith(prefix));
+            } else {
+                selection = corpus.select(entry -> entry.getId().equals(pattern) ||
+                        entry.getCategory().equals(pattern));
+            }
+
+            System.out.println("Selected " + selection.size() + " of " + corpus.size() + " graphs in " + CORPUS_FILE + ":");
+            for (GraphCorpus.Entry entry : selection) {
+                System.out.println("  " + entry);
+            }
+            return corpus.loadAll(selection);
+        }
+    }
+
     private static List<Graph> generateAndSaveAllGraphs() throws Exception {
         // Generate all graphs USING CUSTOM GRAPH STRUCTURE
         System.out.println("Generating test graphs using custom Graph class...");
@@ -181,13 +243,13 @@ public class Main {
         }
     }
 
-    private static void processGraphsAndGenerateOutputs(List<Graph> graphs) throws Exception {
+    private static void processGraphsAndGenerateOutputs(List<Graph> graphs, boolean bench) throws Exception {
         PrimAlgorithm prim = new PrimAlgorithm();
         KruskalAlgorithm kruskal = new KruskalAlgorithm();
 
         List<MSTResult> primResults = new ArrayList<>();
         List<MSTResult> kruskalResults = new ArrayList<>();
-        List<Map<String, Object>> outputResults = new ArrayList<>();
+        List<GraphResult> outputResults = new ArrayList<>();
 
         System.out.println("\nProcessing " + graphs.size() + " graphs USING CUSTOM GRAPH STRUCTURE...");
 
@@ -205,8 +267,7 @@ public class Main {
             kruskalResults.add(kruskalResult);
 
             // Prepare output data
-            Map<String, Object> result = createResultMap(graph, primResult, kruskalResult);
-            outputResults.add(result);
+            outputResults.add(createResult(graph, primResult, kruskalResult));
         }
 
         // Generate all output files
@@ -218,10 +279,33 @@ public class Main {
         // Performance analysis
         PerformanceAnalyzer.analyzeResults(primResults, kruskalResults);
 
+        if (bench) {
+            runBenchmarks(graphs, kruskalResults);
+        }
+
         // Final demonstration
         demonstrateFinalResults(graphs, primResults, kruskalResults);
     }
 
+    /**
+     * Times every engine and the supporting structures on the loaded graphs
+     * Only run in bench mode: these passes take minutes and write nothing the normal run needs.
+     */
+    private static void runBenchmarks(List<Graph> graphs, List<MSTResult> kruskalResults) throws Exception {
+        List<MSTAlgorithm> algorithms = Arrays.asList(new KruskalAlgorithm(), new PrimAlgorithm(),
+                new DialPrimAlgorithm(), new ParallelPrimAlgorithm(), new ParallelKruskalAlgorithm(),
+                new KKTAlgorithm(), new MultilevelMSTAlgorithm());
+        PerformanceAnalyzer.compareAlgorithms(graphs, algorithms);
+        MSTSolver solver = new MSTSolver(algorithms, PROFILE_FILE);
+        PerformanceAnalyzer.analyzeSolverChoices(graphs, solver);
+        solver.save();
+        PerformanceAnalyzer.analyzeVertexOrdering(graphs);
+        PerformanceAnalyzer.analyzeScenarios(graphs, 32, 3);
+        PerformanceAnalyzer.analyzeConcurrentIngestion(graphs, new int[]{1, 2, 4, 8});
+        PerformanceAnalyzer.analyzeCostEstimation(graphs, kruskalResults, 0.1, 0.95);
+        PerformanceAnalyzer.analyzeCompressionThroughput(graphs, OUTPUT_DIR + "/performance");
+    }
+
     private static void generateVisualCharts(List<MSTResult> primResults,
                                              List<MSTResult> kruskalResults) throws Exception {
         System.out.println("\nGenerating visual performance charts...");
@@ -269,6 +353,17 @@ public class Main {
             System.out.println("Valid MSTs found: Prim=" + validPrimMSTs + "/" + primResults.size() +
                     ", Kruskal=" + validKruskalMSTs + "/" + kruskalResults.size());
 
+            // Disconnected networks still get a spanning forest
+            SpanningForestAlgorithm forestAlgorithm = new SpanningForestAlgorithm();
+            for (Graph graph : graphs) {
+                if (!graph.isConnected()) {
+                    SpanningForestResult forest = forestAlgorithm.findSpanningForest(graph);
+                    System.out.printf("Spanning forest for %s: %d components, cost %d, %d edges%n",
+                            graph.getId(), forest.getComponentCount(), forest.getForestCost(),
+                            forest.getMstEdgeCount());
+                }
+            }
+
             System.out.println("✓ Custom Graph successfully integrated with MST algorithms!");
             System.out.println("✓ All graph operations working correctly!");
             System.out.println("✓ Object-oriented design principles demonstrated!");
@@ -276,35 +371,19 @@ public class Main {
         }
     }
 
-    private static Map<String, Object> createResultMap(Graph graph, MSTResult prim, MSTResult kruskal) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("graph_id", graph.getId());
-        result.put("vertex_count", graph.getVertexCount());
-        result.put("edge_count", graph.getEdgeCount());
-        result.put("category", getGraphCategory(graph.getId()));
-        result.put("graph_density", graph.getDensity());
-        result.put("is_connected", graph.isConnected());
-
-        Map<String, Object> primData = new HashMap<>();
-        primData.put("total_cost", prim.getTotalCost());
-        primData.put("execution_time_ms", prim.getExecutionTimeMs());
-        primData.put("operations_count", prim.getOperationsCount());
-        primData.put("mst_edges_count", prim.getMstEdgeCount());
-
-        Map<String, Object> kruskalData = new HashMap<>();
-        kruskalData.put("total_cost", kruskal.getTotalCost());
-        kruskalData.put("execution_time_ms", kruskal.getExecutionTimeMs());
-        kruskalData.put("operations_count", kruskal.getOperationsCount());
-        kruskalData.put("mst_edges_count", kruskal.getMstEdgeCount());
-
-        result.put("prim", primData);
-        result.put("kruskal", kruskalData);
-        result.put("costs_consistent", prim.getTotalCost() == kruskal.getTotalCost());
-
-        return result;
+    private static GraphResult createResult(Graph graph, MSTResult prim, MSTResult kruskal) {
+        // Certify the tree on its own, independently of the Prim cross-check
+        MSTVerifier.Verification check = new MSTVerifier().verify(graph, kruskal);
+        if (!check.isValid()) {
+            System.out.println("  MST verification failed for " + graph.getId() + ": " + check);
+        }
+
+        return new GraphResult(graph.getId(), graph.getVertexCount(), graph.getEdgeCount(),
+                getGraphCategory(graph.getId()), graph.getDensity(), graph.isConnected(),
+                prim, kruskal, check.isValid());
     }
 
-    private static void generateOutputFiles(List<Map<String, Object>> outputResults,
+    private static void generateOutputFiles(List<GraphResult> outputResults,
                                             List<MSTResult> primResults,
                                             List<MSTResult> kruskalResults) throws Exception {
         System.out.println("\nGenerating output files...");
@@ -333,17 +412,16 @@ public class Main {
         System.out.println("All output files generated successfully!");
     }
 
-    private static void generateCategoryOutputs(List<Map<String, Object>> outputResults) throws Exception {
-        Map<String, List<Map<String, Object>>> resultsByCategory = new HashMap<>();
+    private static void generateCategoryOutputs(List<GraphResult> outputResults) throws Exception {
+        Map<String, List<GraphResult>> resultsByCategory = new HashMap<>();
 
-        for (Map<String, Object> result : outputResults) {
-            String category = (String) result.get("category");
-            resultsByCategory.computeIfAbsent(category, k -> new ArrayList<>()).add(result);
+        for (GraphResult result : outputResults) {
+            resultsByCategory.computeIfAbsent(result.getCategory(), k -> new ArrayList<>()).add(result);
         }
 
-        for (Map.Entry<String, List<Map<String, Object>>> entry : resultsByCategory.entrySet()) {
+        for (Map.Entry<String, List<GraphResult>> entry : resultsByCategory.entrySet()) {
             String category = entry.getKey();
-            List<Map<String, Object>> categoryResults = entry.getValue();
+            List<GraphResult> categoryResults = entry.getValue();
 
             String categoryCsv = OUTPUT_DIR + "/performance/" + category + "_results.csv";
             CSVFileHandler.writeSummaryToCSV(categoryResults, categoryCsv);
@@ -0,0 +1,106 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Answers minimax route queries: the worst road segment on the best route
+ * between two districts. The path between two vertices in a minimum spanning
+ * tree (or forest) minimizes its heaviest edge, so the index is built once
+ * from an MST in O(V log V) and each query costs O(log V).
+ */
+public class BottleneckPathIndex {
+    // Batches at least this large are answered in parallel
+    private static final int PARALLEL_BATCH_SIZE = 1 << 14;
+
+    private final Map<String, Integer> vertexIndex;
+    private final TreePathMax pathMax;
+
+    /**
+     * Builds the index from a graph and its spanning tree or forest
+     * (e.g. a SpanningForestResult for disconnected graphs)
+     */
+    public BottleneckPathIndex(Graph graph, MSTResult mst) {
+        List<String> vertices = graph.getVertices();
+        vertexIndex = new HashMap<>(vertices.size() * 2);
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        List<Edge> treeEdges = mst.getMstEdges() != null ? mst.getMstEdges() : Collections.emptyList();
+        int[] sources = new int[treeEdges.size()];
+        int[] destinations = new int[treeEdges.size()];
+        long[] weights = new long[treeEdges.size()];
+        for (int i = 0; i < treeEdges.size(); i++) {
+            Edge edge = treeEdges.get(i);
+            sources[i] = indexOf(edge.getSource());
+            destinations[i] = indexOf(edge.getDestination());
+            weights[i] = edge.getWeight();
+        }
+
+        pathMax = new TreePathMax(vertices.size(), sources, destinations, weights, treeEdges.size());
+    }
+
+    /**
+     * Gets the index of a vertex for the int-based batch queries
+     */
+    public int indexOf(String vertex) {
+        Integer index = vertexIndex.get(vertex);
+        if (index == null) {
+            throw new IllegalArgumentException("Vertex " + vertex + " is not part of the graph");
+        }
+        return index;
+    }
+
+    public boolean isReachable(String source, String destination) {
+        return pathMax.connected(indexOf(source), indexOf(destination));
+    }
+
+    /**
+     * Gets the heaviest edge weight on the minimax route between two vertices
+     * @return 0 for the same vertex, Integer.MAX_VALUE if they are not connected
+     */
+    public int bottleneck(String source, String destination) {
+        return bottleneck(indexOf(source), indexOf(destination));
+    }
+
+    public int bottleneck(int source, int destination) {
+        if (source == destination) return 0;
+        if (!pathMax.connected(source, destination)) return Integer.MAX_VALUE;
+        return (int) pathMax.pathMax(source, destination);
+    }
+
+    /**
+     * Answers many queries at once, pairing sources[i] with destinations[i]
+     */
+    public int[] bottlenecks(int[] sources, int[] destinations) {
+        if (sources.length != destinations.length) {
+            throw new IllegalArgumentException("Sources and destinations must have the same length");
+        }
+
+        int[] result = new int[sources.length];
+        IntStream indices = IntStream.range(0, sources.length);
+        if (sources.length >= PARALLEL_BATCH_SIZE) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> result[i] = bottleneck(sources[i], destinations[i]));
+        return result;
+    }
+
+    public int[] bottlenecks(List<String> sources, List<String> destinations) {
+        if (sources.size() != destinations.size()) {
+            throw new IllegalArgumentException("Sources and destinations must have the same length");
+        }
+
+        int[] sourceIndices = new int[sources.size()];
+        int[] destinationIndices = new int[destinations.size()];
+        for (int i = 0; i < sourceIndices.length; i++) {
+            sourceIndices[i] = indexOf(sources.get(i));
+            destinationIndices[i] = indexOf(destinations.get(i));
+        }
+        return bottlenecks(sourceIndices, destinationIndices);
+    }
+}
@@ -0,0 +1,125 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.CompactGraph;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.util.*;
+
+/**
+ * Prim's algorithm on a CompactGraph numbered by a VertexOrdering
+ *
+ * Keys, tree flags and the heap are int-indexed arrays, so once the graph is
+ * reordered most neighbour lookups stay within a few cache lines. The MST
+ * comes back as the original Edge objects.
+ */
+public class CompactPrimAlgorithm implements MSTAlgorithm {
+    private final VertexOrdering ordering;
+
+    public CompactPrimAlgorithm() {
+        this(VertexOrdering.NATURAL);
+    }
+
+    public CompactPrimAlgorithm(VertexOrdering ordering) {
+        this.ordering = ordering;
+    }
+
+    @Override
+    public String getName() {
+        return ordering == VertexOrdering.NATURAL ? "CompactPrim" : "CompactPrim-" + ordering;
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        long startTime = System.nanoTime();
+        if (graph.getVertexCount() == 0) {
+            return new MSTResult(getName(), Collections.emptyList(), 0, 0, 0, 0, 0, graph.getVersion());
+        }
+
+        CompactGraph compact = ordering.apply(graph);
+        MSTResult result = findMST(compact);
+        long executionTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+        return new MSTResult(getName(), result.getMstEdges(), result.getTotalCost(), executionTimeMs,
+                result.getOperationsCount() + 2 * compact.getEdgeCount(), compact.getVertexCount(),
+                compact.getEdgeCount(), graph.getVersion());
+    }
+
+    /**
+     * Runs Prim from vertex 0 on an already built compact graph
+     */
+    public MSTResult findMST(CompactGraph graph) {
+        long startTime = System.nanoTime();
+        int operations = 0;
+        int n = graph.getVertexCount();
+
+        if (n == 0) {
+            return new MSTResult(getName(), Collections.emptyList(), 0, 0, 0, 0, 0);
+        }
+
+        int[] key = new int[n];
+        int[] bestSlot = new int[n];
+        boolean[] inTree = new boolean[n];
+        Arrays.fill(key, Integer.MAX_VALUE);
+
+        // Lazy heap of (key, vertex), stale entries are skipped when popped
+        long[] heap = new long[Math.max(16, n)];
+        int size = 0;
+        heap[size++] = 0;
+        key[0] = 0;
+        bestSlot[0] = -1;
+
+        List<Edge> mstEdges = new ArrayList<>(n - 1);
+        while (size > 0) {
+            long top = heap[0];
+            long last = heap[--size];
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+                if (heap[child] >= last) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            operations++;
+
+            int current = (int) top;
+            if (inTree[current]) continue;
+            inTree[current] = true;
+            if (bestSlot[current] >= 0) {
+                mstEdges.add(graph.getEdge(bestSlot[current]));
+            }
+
+            for (int slot = graph.getFirstSlot(current); slot < graph.getEndSlot(current); slot++) {
+                int next = graph.getTarget(slot);
+                int weight = graph.getWeight(slot);
+                operations++;
+                if (!inTree[next] && weight < key[next]) {
+                    key[next] = weight;
+                    bestSlot[next] = slot;
+                    if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+                    long entry = ((long) weight << 32) | next;
+                    int j = size++;
+                    while (j > 0 && heap[(j - 1) >>> 1] > entry) {
+                        heap[j] = heap[(j - 1) >>> 1];
+                        j = (j - 1) >>> 1;
+                    }
+                    heap[j] = entry;
+                }
+            }
+        }
+
+        long executionTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+
+        // Check if we found a complete MST
+        int totalCost = Integer.MAX_VALUE;
+        if (mstEdges.size() == n - 1) {
+            totalCost = mstEdges.stream().mapToInt(Edge::getWeight).sum();
+        } else {
+            mstEdges = Collections.emptyList(); // No MST for disconnected graph
+        }
+
+        return new MSTResult(getName(), mstEdges, totalCost, executionTimeMs,
+                operations, n, graph.getEdgeCount());
+    }
+}
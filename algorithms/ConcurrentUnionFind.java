@@ -0,0 +1,61 @@
+package com.transportation.algorithms;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free union-find over int elements
+ * Roots are linked with compare-and-set and paths are halved opportunistically,
+ * so find and union may be called from any number of threads.
+ */
+final class ConcurrentUnionFind {
+    private final AtomicIntegerArray parent;
+
+    ConcurrentUnionFind(int size) {
+        parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            parent.set(i, i);
+        }
+    }
+
+    int find(int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) return x;
+            int grandparent = parent.get(p);
+            if (p != grandparent) {
+                parent.compareAndSet(x, p, grandparent); // Path halving, losing the race is harmless
+            }
+            x = grandparent;
+        }
+    }
+
+    /**
+     * Joins the sets of a and b
+     * @return false if they were already joined
+     */
+    boolean union(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) return false;
+
+            // Always link the larger root under the smaller one to avoid cycles
+            if (rootA < rootB) {
+                int tmp = rootA;
+                rootA = rootB;
+                rootB = tmp;
+            }
+            if (parent.compareAndSet(rootA, rootA, rootB)) return true;
+        }
+    }
+
+    boolean connected(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) return true;
+            // rootA may have been linked meanwhile, only trust a stable answer
+            if (parent.get(rootA) == rootA) return false;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.util.*;
+
+/**
+ * Prim's algorithm on a bucket queue (Dial) for small integer weights
+ *
+ * Vertices sit in doubly linked bucket lists indexed by their current key,
+ * so insert and decrease-key are O(1) and extract-min scans forward from the
+ * lowest non-empty bucket. Prim's keys are not monotone (a new tree vertex
+ * can offer a lighter edge than the last one extracted), which rules out a
+ * radix heap; the scan pointer simply moves back when that happens.
+ *
+ * The layout follows the largest weight: one bucket per weight up to
+ * MAX_BUCKETS, above that each bucket covers a power-of-two weight range
+ * and extract-min scans the bucket for its lightest vertex.
+ */
+public class DialPrimAlgorithm implements MSTAlgorithm {
+    private static final int MAX_BUCKETS = 1 << 16;
+    private static final int NONE = -1;
+
+    @Override
+    public String getName() {
+        return "DialPrim";
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        long startTime = System.nanoTime();
+        int operations = 0;
+        int n = graph.getVertexCount();
+
+        if (n == 0) {
+            return new MSTResult(getName(), Collections.emptyList(), 0, 0, 0, 0, 0, graph.getVersion());
+        }
+
+        // Compressed adjacency
+        List<String> vertices = graph.getVertices();
+        Map<String, Integer> vertexIndex = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+        List<Edge> edges = graph.getEdges();
+        int[] start = new int[n + 1];
+        int maxWeight = 0;
+        for (Edge edge : edges) {
+            start[vertexIndex.get(edge.getSource()) + 1]++;
+            start[vertexIndex.get(edge.getDestination()) + 1]++;
+            maxWeight = Math.max(maxWeight, edge.getWeight());
+        }
+        for (int i = 0; i < n; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] fill = Arrays.copyOf(start, n);
+        int[] neighbor = new int[2 * edges.size()];
+        Edge[] incident = new Edge[2 * edges.size()];
+        for (Edge edge : edges) {
+            int u = vertexIndex.get(edge.getSource());
+            int v = vertexIndex.get(edge.getDestination());
+            neighbor[fill[u]] = v;
+            incident[fill[u]++] = edge;
+            neighbor[fill[v]] = u;
+            incident[fill[v]++] = edge;
+        }
+        operations += edges.size();
+
+        BucketQueue queue = new BucketQueue(n, maxWeight);
+        int[] key = new int[n];
+        Edge[] bestEdge = new Edge[n];
+        boolean[] inTree = new boolean[n];
+        Arrays.fill(key, Integer.MAX_VALUE);
+
+        List<Edge> mstEdges = new ArrayList<>(n - 1);
+        int current = 0;
+        inTree[0] = true;
+        for (int added = 1; added < n; added++) {
+            for (int i = start[current]; i < start[current + 1]; i++) {
+                int next = neighbor[i];
+                int weight = incident[i].getWeight();
+                operations++;
+                if (!inTree[next] && weight < key[next]) {
+                    if (key[next] == Integer.MAX_VALUE) {
+                        queue.insert(next, weight);
+                    } else {
+                        queue.decreaseKey(next, key[next], weight);
+                    }
+                    key[next] = weight;
+                    bestEdge[next] = incident[i];
+                }
+            }
+
+            current = queue.extractMin(key);
+            if (current == NONE) {
+                break; // Disconnected
+            }
+            inTree[current] = true;
+            mstEdges.add(bestEdge[current]);
+            operations++;
+        }
+        operations += queue.scannedBuckets;
+
+        long executionTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+
+        // Check if we found a complete MST
+        int totalCost = Integer.MAX_VALUE;
+        if (mstEdges.size() == n - 1) {
+            totalCost = mstEdges.stream().mapToInt(Edge::getWeight).sum();
+        } else {
+            mstEdges = Collections.emptyList(); // No MST for disconnected graph
+        }
+
+        return new MSTResult(getName(), mstEdges, totalCost, executionTimeMs,
+                operations, n, graph.getEdgeCount(), graph.getVersion());
+    }
+
+    /**
+     * Bucket lists of vertices keyed by small non-negative ints
+     */
+    private static class BucketQueue {
+        private final int shift;
+        private final int[] head;
+        private final int[] next;
+        private final int[] previous;
+        private int lowest;
+        private int size;
+        int scannedBuckets;
+
+        BucketQueue(int vertexCount, int maxWeight) {
+            // Widen buckets by powers of two until they fit the bucket limit
+            int bucketShift = 0;
+            while ((maxWeight >> bucketShift) >= MAX_BUCKETS) {
+                bucketShift++;
+            }
+            shift = bucketShift;
+            head = new int[(maxWeight >> shift) + 1];
+            next = new int[vertexCount];
+            previous = new int[vertexCount];
+            Arrays.fill(head, NONE);
+            lowest = head.length;
+        }
+
+        void insert(int vertex, int key) {
+            int bucket = key >> shift;
+            next[vertex] = head[bucket];
+            previous[vertex] = NONE;
+            if (head[bucket] != NONE) previous[head[bucket]] = vertex;
+            head[bucket] = vertex;
+            if (bucket < lowest) lowest = bucket; // Keys are not monotone in Prim
+            size++;
+        }
+
+        void decreaseKey(int vertex, int oldKey, int newKey) {
+            if ((oldKey >> shift) == (newKey >> shift)) return;
+            remove(vertex, oldKey >> shift);
+            insert(vertex, newKey);
+        }
+
+        /**
+         * Removes and returns the vertex with the smallest key, NONE when empty
+         */
+        int extractMin(int[] keys) {
+            if (size == 0) return NONE;
+            while (head[lowest] == NONE) {
+                lowest++;
+                scannedBuckets++;
+            }
+
+            int best = head[lowest];
+            if (shift > 0) {
+                // Wide bucket: pick its lightest vertex
+                for (int v = next[best]; v != NONE; v = next[v]) {
+                    if (keys[v] < keys[best]) best = v;
+                    scannedBuckets++;
+                }
+            }
+            remove(best, lowest);
+            return best;
+        }
+
+        private void remove(int vertex, int bucket) {
+            if (previous[vertex] != NONE) {
+                next[previous[vertex]] = next[vertex];
+            } else {
+                head[bucket] = next[vertex];
+            }
+            if (next[vertex] != NONE) previous[next[vertex]] = previous[vertex];
+            size--;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.util.*;
+
+/**
+ * Maintains a minimum spanning forest of a graph under edge insertions,
+ * deletions and weight changes without recomputing it from scratch.
+ *
+ * The forest is stored in a link-cut tree, so inserting an edge or lowering
+ * a weight is a single O(log V) path-maximum query plus at most one swap.
+ *
+ * Removing a tree edge (or raising its weight) splits a tree in two. Both
+ * halves are explored over the tree edges in lockstep until the smaller one
+ * is complete, and only the non-tree edges incident to that side are checked
+ * for the lightest replacement. The cost is O(s + d) for s vertices on the
+ * smaller side with d incident non-tree edges, independent of the rest of
+ * the graph. It is not the polylogarithmic amortized bound of the
+ * Holm-de Lichtenberg-Thorup levels: a cut through the middle of a dense
+ * component still looks at a large share of its edges.
+ */
+public class DynamicMST {
+    private static final Comparator<EdgeState> BY_WEIGHT =
+            Comparator.comparingInt((EdgeState state) -> state.edge.getWeight())
+                    .thenComparingLong(state -> state.sequence);
+
+    private final Map<String, Integer> vertexNodes = new HashMap<>();
+    private final Map<String, EdgeState> edges = new HashMap<>();
+    private final LinkCutTree tree;
+    // Edge state owning each link-cut node, indexed by node id
+    private EdgeState[] nodeOwners;
+
+    // Tree and non-tree edges at each vertex, indexed by vertex node id (1..V)
+    private final List<Set<EdgeState>> treeIncidence;
+    private final List<Set<EdgeState>> nonTreeIncidence;
+
+    // Scratch space for splitting a tree, reused across deletions
+    private final int[] mark;
+    private int stamp;
+    private final Side sideA;
+    private final Side sideB;
+
+    private long totalCost;
+    private int treeEdgeCount;
+    private long nextSequence;
+    private int operations;
+    private long updateTimeNanos;
+
+    // Book-keeping for one edge of the graph
+    private static class EdgeState {
+        Edge edge;
+        final long sequence;
+        final int source;
+        final int destination;
+        int node; // Link-cut node while the edge is in the forest, 0 otherwise
+
+        EdgeState(Edge edge, long sequence, int source, int destination) {
+            this.edge = edge;
+            this.sequence = sequence;
+            this.source = source;
+            this.destination = destination;
+        }
+
+        int other(int vertex) {
+            return vertex == source ? destination : source;
+        }
+    }
+
+    // One half of a split tree, explored breadth-first one tree edge at a time
+    private final class Side {
+        private final int[] queue;
+        private int head;
+        private int tail;
+        private int label;
+        private int vertex;
+        private Iterator<EdgeState> incident;
+
+        Side(int capacity) {
+            queue = new int[capacity];
+        }
+
+        void start(int root, int label) {
+            this.label = label;
+            head = 0;
+            tail = 0;
+            incident = null;
+            mark[root] = label;
+            queue[tail++] = root;
+        }
+
+        // Follows one more tree edge, returns false once the side is fully explored
+        boolean step() {
+            while (incident == null || !incident.hasNext()) {
+                if (head == tail) return false;
+                vertex = queue[head++];
+                incident = treeIncidence.get(vertex).iterator();
+            }
+            int next = incident.next().other(vertex);
+            if (mark[next] != label) {
+                mark[next] = label;
+                queue[tail++] = next;
+            }
+            return true;
+        }
+    }
+
+    public DynamicMST(Graph graph) {
+        long startTime = System.nanoTime();
+        int vertexCount = graph.getVertexCount();
+        tree = new LinkCutTree(2 * vertexCount);
+        nodeOwners = new EdgeState[2 * vertexCount + 1];
+        treeIncidence = new ArrayList<>(vertexCount + 1);
+        nonTreeIncidence = new ArrayList<>(vertexCount + 1);
+        treeIncidence.add(null); // Node 0 is the link-cut null sentinel
+        nonTreeIncidence.add(null);
+        mark = new int[vertexCount + 1];
+        sideA = new Side(vertexCount);
+        sideB = new Side(vertexCount);
+
+        for (String vertex : graph.getVertices()) {
+            vertexNodes.put(vertex, tree.addNode(Integer.MIN_VALUE));
+            treeIncidence.add(new HashSet<>());
+            nonTreeIncidence.add(new HashSet<>());
+        }
+
+        // Initial forest built Kruskal-style from the weight-sorted edges
+        for (Edge edge : graph.getSortedEdges()) {
+            EdgeState state = newState(edge);
+            edges.put(edge.getId(), state);
+            operations++;
+
+            if (!tree.connected(state.source, state.destination)) {
+                linkEdge(state);
+            } else {
+                addNonTree(state);
+            }
+        }
+
+        updateTimeNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Adds a new road to the network
+     */
+    public void insertEdge(Edge edge) {
+        long startTime = System.nanoTime();
+        nodeOf(edge.getSource());
+        nodeOf(edge.getDestination());
+        if (edges.containsKey(edge.getId())) {
+            throw new IllegalArgumentException("Edge " + edge.getId() + " already exists, use updateWeight instead");
+        }
+
+        EdgeState state = newState(edge);
+        edges.put(edge.getId(), state);
+        offerEdge(state);
+        updateTimeNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Removes a road from the network
+     * @return true if the edge existed
+     */
+    public boolean deleteEdge(String source, String destination) {
+        long startTime = System.nanoTime();
+        EdgeState state = edges.remove(new Edge(source, destination, 0).getId());
+        if (state == null) {
+            return false;
+        }
+
+        operations++;
+        if (state.node == 0) {
+            removeNonTree(state);
+        } else {
+            cutEdge(state);
+            reconnect(state.source, state.destination);
+        }
+
+        updateTimeNanos += System.nanoTime() - startTime;
+        return true;
+    }
+
+    /**
+     * Changes the cost of an existing road
+     */
+    public void updateWeight(String source, String destination, int newWeight) {
+        long startTime = System.nanoTime();
+        String id = new Edge(source, destination, 0).getId();
+        EdgeState state = edges.get(id);
+        if (state == null) {
+            throw new IllegalArgumentException("Edge " + id + " does not exist");
+        }
+
+        Edge updated = new Edge(state.edge.getSource(), state.edge.getDestination(), newWeight);
+        int oldWeight = state.edge.getWeight();
+        operations++;
+
+        if (state.node != 0) {
+            if (newWeight <= oldWeight) {
+                // A cheaper tree edge stays in the tree
+                tree.setValue(state.node, newWeight);
+                totalCost += newWeight - oldWeight;
+                state.edge = updated;
+            } else {
+                // A dearer tree edge competes with all edges crossing its cut
+                cutEdge(state);
+                state.edge = updated;
+                addNonTree(state);
+                reconnect(state.source, state.destination);
+            }
+        } else {
+            removeNonTree(state);
+            state.edge = updated;
+            offerEdge(state);
+        }
+
+        updateTimeNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Gets the current total cost of the spanning forest
+     */
+    public long getTotalCost() {
+        return totalCost;
+    }
+
+    public int getTreeEdgeCount() {
+        return treeEdgeCount;
+    }
+
+    /**
+     * Checks if the current forest spans all vertices as a single tree
+     */
+    public boolean isSpanningTree() {
+        return treeEdgeCount == vertexNodes.size() - 1;
+    }
+
+    /**
+     * Gets the edges currently in the spanning forest
+     */
+    public List<Edge> getTreeEdges() {
+        List<Edge> result = new ArrayList<>(treeEdgeCount);
+        for (EdgeState state : edges.values()) {
+            if (state.node != 0) {
+                result.add(state.edge);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Snapshot of the current tree in the common result format.
+     * Execution time is the total time spent building and updating.
+     */
+    public MSTResult toMSTResult() {
+        boolean spanning = isSpanningTree() || vertexNodes.isEmpty();
+        List<Edge> treeEdges = spanning ? getTreeEdges() : Collections.emptyList();
+        int cost = spanning ? (int) Math.min(totalCost, Integer.MAX_VALUE) : Integer.MAX_VALUE;
+
+        return new MSTResult("DynamicMST", treeEdges, cost, updateTimeNanos / 1_000_000,
+                operations, vertexNodes.size(), edges.size());
+    }
+
+    // Inserts an edge that is not in the forest, swapping out the path maximum if cheaper
+    private void offerEdge(EdgeState state) {
+        int u = state.source;
+        int v = state.destination;
+        operations++;
+
+        if (!tree.connected(u, v)) {
+            linkEdge(state);
+            return;
+        }
+
+        int maxNode = tree.pathMaxNode(u, v);
+        if (tree.getValue(maxNode) > state.edge.getWeight()) {
+            EdgeState replaced = nodeOwners[maxNode];
+            cutEdge(replaced);
+            addNonTree(replaced);
+            linkEdge(state);
+        } else {
+            addNonTree(state);
+        }
+    }
+
+    // Links the lightest non-tree edge between the two trees just split apart at u and v
+    private void reconnect(int u, int v) {
+        // Explore both halves in lockstep; the first to run out is the smaller one
+        stamp += 2;
+        sideA.start(u, stamp);
+        sideB.start(v, stamp + 1);
+        Side smaller;
+        while (true) {
+            operations++;
+            if (!sideA.step()) {
+                smaller = sideA;
+                break;
+            }
+            if (!sideB.step()) {
+                smaller = sideB;
+                break;
+            }
+        }
+
+        // Every replacement has exactly one endpoint on the smaller side
+        EdgeState best = null;
+        for (int i = 0; i < smaller.tail; i++) {
+            int vertex = smaller.queue[i];
+            for (EdgeState candidate : nonTreeIncidence.get(vertex)) {
+                operations++;
+                if (mark[candidate.other(vertex)] != smaller.label
+                        && (best == null || BY_WEIGHT.compare(candidate, best) < 0)) {
+                    best = candidate;
+                }
+            }
+        }
+
+        if (best != null) {
+            removeNonTree(best);
+            linkEdge(best);
+        }
+    }
+
+    private EdgeState newState(Edge edge) {
+        return new EdgeState(edge, nextSequence++, nodeOf(edge.getSource()), nodeOf(edge.getDestination()));
+    }
+
+    private void addNonTree(EdgeState state) {
+        nonTreeIncidence.get(state.source).add(state);
+        nonTreeIncidence.get(state.destination).add(state);
+    }
+
+    private void removeNonTree(EdgeState state) {
+        nonTreeIncidence.get(state.source).remove(state);
+        nonTreeIncidence.get(state.destination).remove(state);
+    }
+
+    private void linkEdge(EdgeState state) {
+        int node = tree.addNode(state.edge.getWeight());
+        tree.link(state.source, node);
+        tree.link(node, state.destination);
+        treeIncidence.get(state.source).add(state);
+        treeIncidence.get(state.destination).add(state);
+        state.node = node;
+        if (node >= nodeOwners.length) {
+            nodeOwners = Arrays.copyOf(nodeOwners, Math.max(node + 1, nodeOwners.length * 2));
+        }
+        nodeOwners[node] = state;
+        totalCost += state.edge.getWeight();
+        treeEdgeCount++;
+    }
+
+    private void cutEdge(EdgeState state) {
+        int node = state.node;
+        tree.cut(state.source, node);
+        tree.cut(node, state.destination);
+        tree.releaseNode(node);
+        treeIncidence.get(state.source).remove(state);
+        treeIncidence.get(state.destination).remove(state);
+        nodeOwners[node] = null;
+        state.node = 0;
+        totalCost -= state.edge.getWeight();
+        treeEdgeCount--;
+    }
+
+    private int nodeOf(String vertex) {
+        Integer node = vertexNodes.get(vertex);
+        if (node == null) {
+            throw new IllegalArgumentException("Vertex " + vertex + " is not part of the graph");
+        }
+        return node;
+    }
+}
@@ -0,0 +1,299 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.MSTResult;
+import java.util.*;
+
+/**
+ * Minimum spanning tree of geo-located districts under straight-line distance
+ *
+ * The complete graph is never built. Borůvka rounds ask a k-d tree for each
+ * component's nearest point outside the component; subtrees lying entirely
+ * inside the querying component or farther than its best candidate are
+ * pruned, so a round costs about O(V log V) and there are O(log V) rounds.
+ *
+ * The tree is computed on exact distances (ties broken by point index);
+ * reported edge weights are distances multiplied by the weight scale and
+ * rounded to int.
+ */
+public class EuclideanMST {
+    private static final int LEAF_SIZE = 8;
+
+    private final double weightScale;
+
+    public EuclideanMST() {
+        this(1.0);
+    }
+
+    /**
+     * @param weightScale factor applied to distances before rounding,
+     *                    e.g. 1000 to keep metre precision for kilometre coordinates
+     */
+    public EuclideanMST(double weightScale) {
+        if (!(weightScale > 0)) {
+            throw new IllegalArgumentException("Weight scale must be positive");
+        }
+        this.weightScale = weightScale;
+    }
+
+    public MSTResult findMST(List<String> names, double[] x, double[] y) {
+        long startTime = System.nanoTime();
+        int n = names.size();
+        if (x.length != n || y.length != n) {
+            throw new IllegalArgumentException("Every district needs exactly one coordinate pair");
+        }
+        for (int i = 0; i < n; i++) {
+            // A NaN distance is never the nearest, so its district would never be joined
+            if (!Double.isFinite(x[i]) || !Double.isFinite(y[i])) {
+                throw new IllegalArgumentException("Coordinates of " + names.get(i) + " must be finite");
+            }
+        }
+        long completeEdges = (long) n * (n - 1) / 2;
+        int edgeCount = (int) Math.min(completeEdges, Integer.MAX_VALUE);
+
+        // Coordinates are not a versioned graph, so results carry version 0 like a plain Graph
+        if (n == 0) {
+            return new MSTResult("EuclideanMST", Collections.emptyList(), 0, 0, 0, 0, 0, 0);
+        }
+
+        KdTree tree = new KdTree(x, y);
+        IntUnionFind uf = new IntUnionFind(n);
+
+        List<Edge> mstEdges = new ArrayList<>(n - 1);
+        int[] component = new int[n];
+        double[] bestDistance = new double[n];
+        int[] bestFrom = new int[n];
+        int[] bestTo = new int[n];
+        int components = n;
+        long totalCost = 0;
+
+        while (components > 1) {
+            for (int i = 0; i < n; i++) {
+                component[i] = uf.find(i);
+            }
+            tree.labelComponents(component);
+
+            Arrays.fill(bestDistance, Double.POSITIVE_INFINITY);
+            Arrays.fill(bestFrom, -1);
+            for (int p = 0; p < n; p++) {
+                tree.nearestOutside(p, component, bestDistance, bestFrom, bestTo);
+            }
+
+            for (int c = 0; c < n; c++) {
+                if (component[c] != c || bestFrom[c] == -1) continue;
+                int from = bestFrom[c];
+                int to = bestTo[c];
+                if (uf.union(from, to)) {
+                    int weight = toWeight(Math.sqrt(bestDistance[c]));
+                    mstEdges.add(new Edge(names.get(from), names.get(to), weight));
+                    totalCost += weight;
+                    components--;
+                }
+            }
+        }
+
+        long executionTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+        // Integer.MAX_VALUE itself would read as "disconnected", so it is rejected too
+        if (totalCost >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tree cost " + totalCost + " exceeds int range, use a smaller weight scale");
+        }
+
+        return new MSTResult("EuclideanMST", mstEdges, (int) totalCost, executionTimeMs,
+                (int) Math.min(tree.distanceEvaluations, Integer.MAX_VALUE), n, edgeCount, 0);
+    }
+
+    private int toWeight(double distance) {
+        double scaled = Math.rint(distance * weightScale);
+        if (scaled > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Scaled distance " + scaled + " exceeds int range, use a smaller weight scale");
+        }
+        return (int) scaled;
+    }
+
+    /**
+     * 2-d tree over point indices with per-node bounding boxes and a
+     * component label when all points of the node share one component
+     */
+    private static class KdTree {
+        private final double[] x;
+        private final double[] y;
+        private final int[] order;
+
+        private int[] start;
+        private int[] end;
+        private int[] left;
+        private int[] right;
+        private double[] minX;
+        private double[] maxX;
+        private double[] minY;
+        private double[] maxY;
+        private int[] nodeComponent;
+        private int nodeCount;
+        long distanceEvaluations;
+
+        KdTree(double[] x, double[] y) {
+            this.x = x;
+            this.y = y;
+            order = new int[x.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+
+            int capacity = Math.max(1, 4 * x.length / LEAF_SIZE + 1);
+            start = new int[capacity];
+            end = new int[capacity];
+            left = new int[capacity];
+            right = new int[capacity];
+            minX = new double[capacity];
+            maxX = new double[capacity];
+            minY = new double[capacity];
+            maxY = new double[capacity];
+            build(0, order.length);
+            nodeComponent = new int[nodeCount];
+        }
+
+        private int build(int from, int to) {
+            if (nodeCount == start.length) grow();
+            int node = nodeCount++;
+            start[node] = from;
+            end[node] = to;
+            left[node] = -1;
+            right[node] = -1;
+
+            minX[node] = Double.POSITIVE_INFINITY;
+            maxX[node] = Double.NEGATIVE_INFINITY;
+            minY[node] = Double.POSITIVE_INFINITY;
+            maxY[node] = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                int p = order[i];
+                minX[node] = Math.min(minX[node], x[p]);
+                maxX[node] = Math.max(maxX[node], x[p]);
+                minY[node] = Math.min(minY[node], y[p]);
+                maxY[node] = Math.max(maxY[node], y[p]);
+            }
+
+            if (to - from > LEAF_SIZE) {
+                // Split the wider side at the median
+                double[] axis = maxX[node] - minX[node] >= maxY[node] - minY[node] ? x : y;
+                int mid = (from + to) >>> 1;
+                select(axis, from, to - 1, mid);
+                int leftChild = build(from, mid);
+                int rightChild = build(mid, to);
+                left[node] = leftChild;
+                right[node] = rightChild;
+            }
+            return node;
+        }
+
+        // Quickselect so that order[k] holds the k-th smallest coordinate
+        private void select(double[] axis, int low, int high, int k) {
+            while (low < high) {
+                double pivot = axis[order[(low + high) >>> 1]];
+                int i = low;
+                int j = high;
+                while (i <= j) {
+                    while (axis[order[i]] < pivot) i++;
+                    while (axis[order[j]] > pivot) j--;
+                    if (i <= j) {
+                        int tmp = order[i];
+                        order[i++] = order[j];
+                        order[j--] = tmp;
+                    }
+                }
+                if (k <= j) {
+                    high = j;
+                } else if (k >= i) {
+                    low = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        void labelComponents(int[] component) {
+            // Children are created after their parent, so walk nodes backwards
+            for (int node = nodeCount - 1; node >= 0; node--) {
+                if (left[node] == -1) {
+                    int label = component[order[start[node]]];
+                    for (int i = start[node] + 1; i < end[node] && label != -1; i++) {
+                        if (component[order[i]] != label) label = -1;
+                    }
+                    nodeComponent[node] = label;
+                } else {
+                    int label = nodeComponent[left[node]];
+                    nodeComponent[node] = label == nodeComponent[right[node]] ? label : -1;
+                }
+            }
+        }
+
+        /**
+         * Improves the best outgoing edge of p's component with p's nearest
+         * point in another component
+         */
+        void nearestOutside(int p, int[] component, double[] bestDistance, int[] bestFrom, int[] bestTo) {
+            search(0, p, component[p], component, bestDistance, bestFrom, bestTo);
+        }
+
+        private void search(int node, int p, int c, int[] component,
+                            double[] bestDistance, int[] bestFrom, int[] bestTo) {
+            if (nodeComponent[node] == c || boxDistance(node, p) > bestDistance[c]) {
+                return;
+            }
+
+            if (left[node] == -1) {
+                for (int i = start[node]; i < end[node]; i++) {
+                    int q = order[i];
+                    if (component[q] == c) continue;
+                    double dx = x[p] - x[q];
+                    double dy = y[p] - y[q];
+                    double distance = dx * dx + dy * dy;
+                    distanceEvaluations++;
+                    if (isBetter(distance, p, q, bestDistance[c], bestFrom[c], bestTo[c])) {
+                        bestDistance[c] = distance;
+                        bestFrom[c] = p;
+                        bestTo[c] = q;
+                    }
+                }
+                return;
+            }
+
+            // Visit the closer child first to tighten the bound early
+            int first = left[node];
+            int second = right[node];
+            if (boxDistance(second, p) < boxDistance(first, p)) {
+                first = right[node];
+                second = left[node];
+            }
+            search(first, p, c, component, bestDistance, bestFrom, bestTo);
+            search(second, p, c, component, bestDistance, bestFrom, bestTo);
+        }
+
+        // Orders candidate edges by (distance, smaller index, larger index)
+        private static boolean isBetter(double distance, int p, int q, double bestDistance, int bestP, int bestQ) {
+            if (distance != bestDistance) return distance < bestDistance;
+            if (bestP == -1) return true;
+            int low = Math.min(p, q);
+            int bestLow = Math.min(bestP, bestQ);
+            if (low != bestLow) return low < bestLow;
+            return Math.max(p, q) < Math.max(bestP, bestQ);
+        }
+
+        private double boxDistance(int node, int p) {
+            double dx = Math.max(0, Math.max(minX[node] - x[p], x[p] - maxX[node]));
+            double dy = Math.max(0, Math.max(minY[node] - y[p], y[p] - maxY[node]));
+            return dx * dx + dy * dy;
+        }
+
+        private void grow() {
+            int capacity = start.length * 2;
+            start = Arrays.copyOf(start, capacity);
+            end = Arrays.copyOf(end, capacity);
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+        }
+    }
+}
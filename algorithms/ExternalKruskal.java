@@ -0,0 +1,338 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Semi-external Kruskal for edge lists larger than the heap
+ *
+ * Edge files hold fixed 12-byte records (source index, destination index,
+ * weight) as big-endian ints, vertices being numbered 0..V-1. Only the
+ * union-find over vertices lives in memory:
+ * 1. Sorted runs are generated in parallel, each worker sorting one
+ *    budget-sized chunk of the input and writing it to the temp directory.
+ * 2. The runs are memory-mapped and k-way merged by weight, streaming edges
+ *    through an int union-find; accepted edges go straight to the output file.
+ */
+public class ExternalKruskal {
+    public static final int RECORD_SIZE = 12;
+    private static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
+    private final long memoryBudget;
+    private final File tempDir;
+    private final int parallelism;
+
+    /**
+     * Summary of an external run, the tree itself is on disk
+     */
+    public static class Result {
+        private final long edgesRead;
+        private final int mstEdgeCount;
+        private final long totalCost;
+        private final int runCount;
+        private final boolean spanning;
+        private final long executionTimeMs;
+
+        Result(long edgesRead, int mstEdgeCount, long totalCost, int runCount,
+               boolean spanning, long executionTimeMs) {
+            this.edgesRead = edgesRead;
+            this.mstEdgeCount = mstEdgeCount;
+            this.totalCost = totalCost;
+            this.runCount = runCount;
+            this.spanning = spanning;
+            this.executionTimeMs = executionTimeMs;
+        }
+
+        // Getters
+        public long getEdgesRead() { return edgesRead; }
+        public int getMstEdgeCount() { return mstEdgeCount; }
+        public long getTotalCost() { return totalCost; }
+        public int getRunCount() { return runCount; }
+        public long getExecutionTimeMs() { return executionTimeMs; }
+
+        /**
+         * Checks if the output is a spanning tree rather than a forest
+         */
+        public boolean isSpanning() { return spanning; }
+
+        @Override
+        public String toString() {
+            return String.format("ExternalKruskal.Result{edgesRead=%d, mstEdges=%d, totalCost=%d, runs=%d, spanning=%b, time=%dms}",
+                    edgesRead, mstEdgeCount, totalCost, runCount, spanning, executionTimeMs);
+        }
+    }
+
+    public ExternalKruskal() {
+        this(DEFAULT_MEMORY_BUDGET, new File(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param memoryBudget bytes of heap the sorted runs may use in total
+     * @param tempDir      directory for the sorted run files
+     */
+    public ExternalKruskal(long memoryBudget, File tempDir) {
+        if (memoryBudget < 64 * 1024) {
+            throw new IllegalArgumentException("Memory budget must be at least 64 KB");
+        }
+        this.memoryBudget = memoryBudget;
+        this.tempDir = tempDir;
+        this.parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Computes the minimum spanning forest of an edge file and writes its edges to mstFile
+     */
+    public Result findMST(String edgeFile, int vertexCount, String mstFile) throws IOException {
+        long startTime = System.nanoTime();
+        tempDir.mkdirs();
+
+        List<File> runs = generateRuns(edgeFile);
+        try {
+            long[] stats = mergeRuns(runs, vertexCount, mstFile);
+            int mstEdges = (int) stats[1];
+            long executionTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+            return new Result(stats[0], mstEdges, stats[2], runs.size(),
+                    mstEdges == Math.max(vertexCount - 1, 0), executionTimeMs);
+        } finally {
+            for (File run : runs) {
+                if (!run.delete()) {
+                    run.deleteOnExit(); // Still mapped on some platforms
+                }
+            }
+        }
+    }
+
+    private List<File> generateRuns(String edgeFile) throws IOException {
+        try (FileChannel input = FileChannel.open(new File(edgeFile).toPath(), StandardOpenOption.READ)) {
+            long size = input.size();
+            if (size % RECORD_SIZE != 0) {
+                throw new IOException("Edge file " + edgeFile + " is not a whole number of records");
+            }
+
+            // Each concurrent chunk holds its records plus one sort key per record
+            long chunkRecords = Math.max(1024, memoryBudget / parallelism / (RECORD_SIZE + Long.BYTES));
+            chunkRecords = Math.min(chunkRecords, Integer.MAX_VALUE / RECORD_SIZE);
+            long totalRecords = size / RECORD_SIZE;
+            int chunkCount = (int) ((totalRecords + chunkRecords - 1) / chunkRecords);
+
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(chunkCount, 1)));
+            // Every run file any worker creates, so a failure can clean up all of them
+            Queue<File> created = new ConcurrentLinkedQueue<>();
+            List<Future<File>> futures = new ArrayList<>(chunkCount);
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                long first = chunk * chunkRecords;
+                int count = (int) Math.min(chunkRecords, totalRecords - first);
+                futures.add(executor.submit(() -> sortRun(input, first * RECORD_SIZE, count, created)));
+            }
+            executor.shutdown();
+
+            List<File> runs = new ArrayList<>(chunkCount);
+            boolean complete = false;
+            try {
+                for (Future<File> future : futures) {
+                    runs.add(future.get());
+                }
+                complete = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while sorting runs");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) throw (IOException) cause;
+                throw new IOException("Sorting run failed", cause);
+            } finally {
+                if (!complete) {
+                    discardRuns(executor, created);
+                }
+            }
+            return runs;
+        }
+    }
+
+    /**
+     * Stops the workers, waits for them and deletes every run they wrote
+     * Waiting first matters: a worker still running would otherwise leave
+     * its run behind after the cleanup.
+     */
+    private static void discardRuns(ExecutorService executor, Queue<File> created) {
+        executor.shutdownNow();
+        boolean interrupted = false;
+        while (!executor.isTerminated()) {
+            try {
+                executor.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        for (File run : created) {
+            run.delete();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Reads one chunk with positional reads, sorts it by weight and writes a run file
+    private File sortRun(FileChannel input, long offset, int count, Queue<File> created) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(count * RECORD_SIZE);
+        while (buffer.hasRemaining()) {
+            if (input.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("Edge file ended inside a chunk");
+            }
+        }
+        buffer.flip();
+
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            int weight = buffer.getInt(i * RECORD_SIZE + 8);
+            keys[i] = ((long) weight << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        File run = File.createTempFile("kruskal-run", ".bin", tempDir);
+        created.add(run);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(run), IO_BUFFER_SIZE))) {
+            for (long key : keys) {
+                int position = (int) key * RECORD_SIZE;
+                out.writeInt(buffer.getInt(position));
+                out.writeInt(buffer.getInt(position + 4));
+                out.writeInt(buffer.getInt(position + 8));
+            }
+        }
+        return run;
+    }
+
+    /**
+     * @return edges read, MST edges written, total cost
+     */
+    private long[] mergeRuns(List<File> runs, int vertexCount, String mstFile) throws IOException {
+        MappedByteBuffer[] buffers = new MappedByteBuffer[runs.size()];
+        for (int i = 0; i < runs.size(); i++) {
+            try (FileChannel channel = FileChannel.open(runs.get(i).toPath(), StandardOpenOption.READ)) {
+                buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+
+        // Min-heap of runs keyed by their next weight, ties by run index
+        int[] heap = new int[runs.size()];
+        int heapSize = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            if (buffers[i].hasRemaining()) {
+                heap[heapSize++] = i;
+            }
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(heap, heapSize, i, buffers);
+        }
+
+        IntUnionFind uf = new IntUnionFind(vertexCount);
+        long edgesRead = 0;
+        long mstEdges = 0;
+        long totalCost = 0;
+
+        File output = new File(mstFile);
+        if (output.getParentFile() != null) {
+            output.getParentFile().mkdirs();
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(output), IO_BUFFER_SIZE))) {
+            while (heapSize > 0 && mstEdges < vertexCount - 1) {
+                MappedByteBuffer buffer = buffers[heap[0]];
+                int source = buffer.getInt();
+                int destination = buffer.getInt();
+                int weight = buffer.getInt();
+                edgesRead++;
+
+                if (source < 0 || source >= vertexCount || destination < 0 || destination >= vertexCount) {
+                    throw new IOException("Edge " + source + "-" + destination + " refers to a vertex outside 0.."
+                            + (vertexCount - 1));
+                }
+                if (uf.union(source, destination)) {
+                    out.writeInt(source);
+                    out.writeInt(destination);
+                    out.writeInt(weight);
+                    mstEdges++;
+                    totalCost += weight;
+                }
+
+                if (!buffer.hasRemaining()) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, 0, buffers);
+            }
+        }
+
+        return new long[]{edgesRead, mstEdges, totalCost};
+    }
+
+    private static void siftDown(int[] heap, int size, int index, MappedByteBuffer[] buffers) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && less(heap[left], heap[smallest], buffers)) smallest = left;
+            if (right < size && less(heap[right], heap[smallest], buffers)) smallest = right;
+            if (smallest == index) return;
+            int tmp = heap[index];
+            heap[index] = heap[smallest];
+            heap[smallest] = tmp;
+            index = smallest;
+        }
+    }
+
+    private static boolean less(int runA, int runB, MappedByteBuffer[] buffers) {
+        int weightA = buffers[runA].getInt(buffers[runA].position() + 8);
+        int weightB = buffers[runB].getInt(buffers[runB].position() + 8);
+        return weightA != weightB ? weightA < weightB : runA < runB;
+    }
+
+    /**
+     * Writes a graph as an edge file, numbering vertices in getVertices() order
+     * @return number of records written
+     */
+    public static long writeEdgeFile(Graph graph, String filename) throws IOException {
+        List<String> vertices = graph.getVertices();
+        Map<String, Integer> vertexIndex = new HashMap<>(vertices.size() * 2);
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        long count = 0;
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(filename), IO_BUFFER_SIZE))) {
+            for (Edge edge : graph.getEdges()) {
+                out.writeInt(vertexIndex.get(edge.getSource()));
+                out.writeInt(vertexIndex.get(edge.getDestination()));
+                out.writeInt(edge.getWeight());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads an edge file back into edges, naming vertices by index
+     */
+    public static List<Edge> readEdgeFile(String filename, List<String> vertexNames) throws IOException {
+        List<Edge> edges = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(filename), IO_BUFFER_SIZE))) {
+            long records = new File(filename).length() / RECORD_SIZE;
+            for (long i = 0; i < records; i++) {
+                String source = vertexNames.get(in.readInt());
+                String destination = vertexNames.get(in.readInt());
+                edges.add(new Edge(source, destination, in.readInt()));
+            }
+        }
+        return edges;
+    }
+}
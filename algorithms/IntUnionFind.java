@@ -0,0 +1,66 @@
+package com.transportation.algorithms;
+
+/**
+ * Union-find over int elements with path halving and union by rank
+ * Single-threaded; ConcurrentUnionFind is the lock-free counterpart.
+ */
+final class IntUnionFind {
+    private final int[] parent;
+    private final byte[] rank;
+
+    IntUnionFind(int size) {
+        parent = new int[size];
+        rank = new byte[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+    }
+
+    int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]]; // Path halving
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Finds without compressing, safe to call from many threads while nobody writes
+     */
+    int root(int x) {
+        while (parent[x] != x) {
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Joins the sets of a and b by rank
+     * @return false if they were already joined
+     */
+    boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) return false;
+
+        if (rank[rootA] < rank[rootB]) {
+            parent[rootA] = rootB;
+        } else {
+            if (rank[rootA] == rank[rootB]) rank[rootA]++;
+            parent[rootB] = rootA;
+        }
+        return true;
+    }
+
+    /**
+     * Joins the set of a into the set of b, keeping b's root as the representative
+     * For callers whose roots carry meaning, e.g. skip pointers toward a tree root
+     */
+    void attach(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA != rootB) {
+            parent[rootA] = rootB;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.util.*;
+
+/**
+ * Randomized MST after Karger-Klein-Tarjan, expected O(E α(E, V)) time
+ *
+ * Each recursion level runs two Borůvka contraction steps, samples half of
+ * the remaining edges, recursively builds the sample's spanning forest F and
+ * drops every F-heavy edge before recursing on what is left.
+ * F-heavy edges are found with one batch of offline path-maximum queries
+ * (OfflinePathMax) rather than the Komlós/King verifier, so each level costs
+ * an inverse-Ackermann factor over the strictly linear original.
+ * Edges are compared by (weight, edge index) so ties break consistently
+ * and the result is a proper MST even with equal weights.
+ * Small subproblems are finished with a plain Kruskal pass.
+ */
+public class KKTAlgorithm implements MSTAlgorithm {
+    private static final int BASE_CASE_EDGES = 256;
+
+    private final Long seed;
+
+    public KKTAlgorithm() {
+        this.seed = null;
+    }
+
+    /**
+     * Creates an engine with a fixed sampling seed for reproducible runs
+     */
+    public KKTAlgorithm(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public String getName() {
+        return "KKT";
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        long startTime = System.nanoTime();
+
+        if (graph.getVertexCount() == 0) {
+            return new MSTResult(getName(), Collections.emptyList(), 0, 0, 0, 0, 0, graph.getVersion());
+        }
+
+        List<String> vertices = graph.getVertices();
+        Map<String, Integer> vertexIndex = new HashMap<>(vertices.size() * 2);
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        List<Edge> edges = graph.getEdges();
+        EdgeList all = new EdgeList(edges.size());
+        for (int i = 0; i < edges.size(); i++) {
+            Edge edge = edges.get(i);
+            all.add(vertexIndex.get(edge.getSource()), vertexIndex.get(edge.getDestination()),
+                    ((long) edge.getWeight() << 32) | i);
+        }
+
+        Context context = new Context(seed != null ? new SplittableRandom(seed) : new SplittableRandom());
+        IntList forest = solve(context, vertices.size(), all);
+
+        List<Edge> mstEdges = new ArrayList<>(forest.size);
+        for (int i = 0; i < forest.size; i++) {
+            mstEdges.add(edges.get((int) all.key[forest.data[i]]));
+        }
+
+        long executionTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+
+        // Check if we found a complete MST
+        int totalCost = Integer.MAX_VALUE;
+        if (mstEdges.size() == graph.getVertexCount() - 1) {
+            totalCost = mstEdges.stream().mapToInt(Edge::getWeight).sum();
+        } else {
+            mstEdges = Collections.emptyList(); // No MST for disconnected graph
+        }
+
+        return new MSTResult(getName(), mstEdges, totalCost, executionTimeMs,
+                (int) Math.min(context.operations, Integer.MAX_VALUE), graph.getVertexCount(),
+                graph.getEdgeCount(), graph.getVersion());
+    }
+
+    /**
+     * Computes the minimum spanning forest of a multigraph
+     * @return indices into edges of the forest edges
+     */
+    private IntList solve(Context context, int vertexCount, EdgeList edges) {
+        if (edges.size <= BASE_CASE_EDGES) {
+            return kruskal(context, vertexCount, edges);
+        }
+
+        IntList result = new IntList();
+        EdgeList current = edges;
+        int[] origin = null; // Index in edges of each edge of current, null for identity
+        int currentVertices = vertexCount;
+
+        for (int step = 0; step < 2 && current.size > 0; step++) {
+            Contraction contraction = boruvkaStep(context, currentVertices, current);
+            for (int i = 0; i < contraction.chosen.size; i++) {
+                int chosen = contraction.chosen.data[i];
+                result.add(origin == null ? chosen : origin[chosen]);
+            }
+
+            int[] nextOrigin = contraction.origin;
+            if (origin != null) {
+                for (int i = 0; i < nextOrigin.length; i++) {
+                    nextOrigin[i] = origin[nextOrigin[i]];
+                }
+            }
+            origin = nextOrigin;
+            current = contraction.edges;
+            currentVertices = contraction.vertexCount;
+        }
+
+        if (current.size == 0) {
+            return result;
+        }
+
+        // Sample half the edges and build their forest
+        EdgeList sample = new EdgeList(current.size / 2 + 1);
+        int[] sampleOrigin = new int[current.size];
+        for (int i = 0; i < current.size; i++) {
+            if (context.random.nextBoolean()) {
+                sampleOrigin[sample.size] = i;
+                sample.add(current.source[i], current.destination[i], current.key[i]);
+            }
+        }
+        context.operations += current.size;
+
+        IntList sampleForest = solve(context, currentVertices, sample);
+        int[] forestSource = new int[sampleForest.size];
+        int[] forestDestination = new int[sampleForest.size];
+        long[] forestKey = new long[sampleForest.size];
+        for (int i = 0; i < sampleForest.size; i++) {
+            int index = sampleOrigin[sampleForest.data[i]];
+            forestSource[i] = current.source[index];
+            forestDestination[i] = current.destination[index];
+            forestKey[i] = current.key[index];
+        }
+
+        // Drop F-heavy edges, they cannot be in the MST
+        long[] pathMax = OfflinePathMax.query(currentVertices, forestSource, forestDestination, forestKey,
+                sampleForest.size, current.source, current.destination, current.size);
+        EdgeList light = new EdgeList(current.size);
+        int[] lightOrigin = new int[current.size];
+        for (int i = 0; i < current.size; i++) {
+            if (current.key[i] <= pathMax[i]) {
+                lightOrigin[light.size] = i;
+                light.add(current.source[i], current.destination[i], current.key[i]);
+            }
+        }
+        context.operations += current.size;
+
+        IntList rest = solve(context, currentVertices, light);
+        for (int i = 0; i < rest.size; i++) {
+            result.add(origin[lightOrigin[rest.data[i]]]);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the lightest edge of every vertex to the forest and contracts them
+     */
+    private Contraction boruvkaStep(Context context, int vertexCount, EdgeList edges) {
+        long[] best = new long[vertexCount];
+        int[] bestEdge = new int[vertexCount];
+        Arrays.fill(best, Long.MAX_VALUE);
+        Arrays.fill(bestEdge, -1);
+
+        for (int i = 0; i < edges.size; i++) {
+            long key = edges.key[i];
+            if (key < best[edges.source[i]]) {
+                best[edges.source[i]] = key;
+                bestEdge[edges.source[i]] = i;
+            }
+            if (key < best[edges.destination[i]]) {
+                best[edges.destination[i]] = key;
+                bestEdge[edges.destination[i]] = i;
+            }
+        }
+        context.operations += edges.size;
+
+        IntUnionFind uf = new IntUnionFind(vertexCount);
+        IntList chosen = new IntList();
+        for (int x = 0; x < vertexCount; x++) {
+            int edge = bestEdge[x];
+            if (edge != -1 && uf.union(edges.source[edge], edges.destination[edge])) {
+                chosen.add(edge);
+            }
+        }
+        context.operations += vertexCount;
+
+        // Relabel contracted vertices
+        int[] label = new int[vertexCount];
+        Arrays.fill(label, -1);
+        int contractedCount = 0;
+        for (int x = 0; x < vertexCount; x++) {
+            int root = uf.find(x);
+            if (label[root] == -1) {
+                label[root] = contractedCount++;
+            }
+            label[x] = label[root];
+        }
+
+        EdgeList contracted = new EdgeList(edges.size);
+        int[] origin = new int[edges.size];
+        for (int i = 0; i < edges.size; i++) {
+            int source = label[edges.source[i]];
+            int destination = label[edges.destination[i]];
+            if (source != destination) {
+                origin[contracted.size] = i;
+                contracted.add(source, destination, edges.key[i]);
+            }
+        }
+        context.operations += edges.size;
+
+        return new Contraction(chosen, contracted, Arrays.copyOf(origin, contracted.size), contractedCount);
+    }
+
+    private IntList kruskal(Context context, int vertexCount, EdgeList edges) {
+        Integer[] order = new Integer[edges.size];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> edges.key[i]));
+        context.operations += edges.size;
+
+        IntUnionFind uf = new IntUnionFind(vertexCount);
+        IntList forest = new IntList();
+        for (int index : order) {
+            context.operations++;
+            if (uf.union(edges.source[index], edges.destination[index])) {
+                forest.add(index);
+                if (forest.size == vertexCount - 1) break;
+            }
+        }
+        return forest;
+    }
+
+    // Per-run state shared across recursion levels
+    private static class Context {
+        final SplittableRandom random;
+        long operations;
+
+        Context(SplittableRandom random) {
+            this.random = random;
+        }
+    }
+
+    // Result of one Borůvka step
+    private static class Contraction {
+        final IntList chosen;
+        final EdgeList edges;
+        final int[] origin;
+        final int vertexCount;
+
+        Contraction(IntList chosen, EdgeList edges, int[] origin, int vertexCount) {
+            this.chosen = chosen;
+            this.edges = edges;
+            this.origin = origin;
+            this.vertexCount = vertexCount;
+        }
+    }
+
+    // Edge arrays with packed (weight, original index) keys
+    private static class EdgeList {
+        int[] source;
+        int[] destination;
+        long[] key;
+        int size;
+
+        EdgeList(int capacity) {
+            source = new int[Math.max(capacity, 1)];
+            destination = new int[source.length];
+            key = new long[source.length];
+        }
+
+        void add(int u, int v, long edgeKey) {
+            if (size == source.length) {
+                source = Arrays.copyOf(source, size * 2);
+                destination = Arrays.copyOf(destination, size * 2);
+                key = Arrays.copyOf(key, size * 2);
+            }
+            source[size] = u;
+            destination[size] = v;
+            key[size++] = edgeKey;
+        }
+    }
+
+    private static class IntList {
+        int[] data = new int[16];
+        int size;
+
+        void add(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+    }
+}
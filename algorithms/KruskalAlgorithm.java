@@ -5,20 +5,29 @@ import com.transportation.model.Edge;
 import com.transportation.model.MSTResult;
 import java.util.*;
 
-public class KruskalAlgorithm {
+public class KruskalAlgorithm implements MSTAlgorithm {
 
+    @Override
+    public String getName() {
+        return "Kruskal";
+    }
+
+    @Override
     public MSTResult findMST(Graph graph) {
         long startTime = System.nanoTime();
         int operations = 0;
 
         if (graph.getVertexCount() == 0) {
-            return new MSTResult("Kruskal", Collections.emptyList(), 0, 0, 0, 0, 0);
+            return new MSTResult("Kruskal", Collections.emptyList(), 0, 0, 0, 0, 0, graph.getVersion());
         }
 
         List<Edge> mstEdges = new ArrayList<>();
-        List<Edge> sortedEdges = new ArrayList<>(graph.getEdges());
-        Collections.sort(sortedEdges);
-        operations += sortedEdges.size(); // Sort operations
+        // Reuse the graph's sorted edge index when it is already built
+        boolean alreadySorted = graph.hasSortedEdgeIndex();
+        List<Edge> sortedEdges = graph.getSortedEdges();
+        if (!alreadySorted) {
+            operations += sortedEdges.size(); // Sort operations
+        }
 
         UnionFind uf = new UnionFind(graph.getVertices());
         operations += graph.getVertexCount();
@@ -52,7 +61,7 @@ public class KruskalAlgorithm {
         }
 
         return new MSTResult("Kruskal", mstEdges, totalCost, executionTimeMs,
-                operations, graph.getVertexCount(), graph.getEdgeCount());
+                operations, graph.getVertexCount(), graph.getEdgeCount(), graph.getVersion());
     }
 
     // Union-Find implementation optimized for String vertices
@@ -0,0 +1,226 @@
+package com.transportation.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Link-cut tree over int nodes supporting link, cut, connectivity and
+ * path-maximum queries in O(log n) amortized time.
+ *
+ * Edges of the represented forest are modelled as nodes of their own whose
+ * value is the edge weight; vertex nodes carry Integer.MIN_VALUE so that
+ * path maxima always point at an edge node. Node 0 is the null sentinel.
+ */
+final class LinkCutTree {
+    private static final int NONE = 0;
+
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private int[] value;
+    private int[] maxNode;
+    private boolean[] reversed;
+    private int[] stack;
+    private int size;
+
+    // Released nodes available for reuse
+    private int[] free;
+    private int freeCount;
+
+    LinkCutTree(int capacity) {
+        int length = Math.max(capacity, 1) + 1;
+        left = new int[length];
+        right = new int[length];
+        parent = new int[length];
+        value = new int[length];
+        maxNode = new int[length];
+        reversed = new boolean[length];
+        stack = new int[length];
+        free = new int[16];
+        value[NONE] = Integer.MIN_VALUE;
+        size = 1;
+    }
+
+    /**
+     * Creates an isolated node and returns its id
+     */
+    int addNode(int nodeValue) {
+        int node;
+        if (freeCount > 0) {
+            node = free[--freeCount];
+        } else {
+            if (size == left.length) grow();
+            node = size++;
+        }
+        left[node] = NONE;
+        right[node] = NONE;
+        parent[node] = NONE;
+        reversed[node] = false;
+        value[node] = nodeValue;
+        maxNode[node] = node;
+        return node;
+    }
+
+    /**
+     * Returns an isolated (fully cut) node to the pool
+     */
+    void releaseNode(int node) {
+        if (freeCount == free.length) free = Arrays.copyOf(free, free.length * 2);
+        free[freeCount++] = node;
+    }
+
+    int getValue(int node) {
+        return value[node];
+    }
+
+    void setValue(int node, int nodeValue) {
+        access(node);
+        value[node] = nodeValue;
+        update(node);
+    }
+
+    /**
+     * Links two nodes of different trees
+     */
+    void link(int u, int v) {
+        makeRoot(u);
+        parent[u] = v;
+    }
+
+    /**
+     * Cuts the tree edge between two adjacent nodes
+     */
+    void cut(int u, int v) {
+        makeRoot(u);
+        access(v);
+        // u is now the only node left of v on the preferred path
+        if (left[v] != u || right[u] != NONE) {
+            throw new IllegalStateException("Nodes " + u + " and " + v + " are not adjacent");
+        }
+        left[v] = NONE;
+        parent[u] = NONE;
+        update(v);
+    }
+
+    boolean connected(int u, int v) {
+        return u == v || findRoot(u) == findRoot(v);
+    }
+
+    /**
+     * Gets the node with the largest value on the tree path between u and v
+     * (u and v must be connected)
+     */
+    int pathMaxNode(int u, int v) {
+        makeRoot(u);
+        access(v);
+        return maxNode[v];
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        reversed[x] = !reversed[x];
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        push(x);
+        while (left[x] != NONE) {
+            x = left[x];
+            push(x);
+        }
+        splay(x);
+        return x;
+    }
+
+    private void access(int x) {
+        int last = NONE;
+        for (int y = x; y != NONE; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            update(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == NONE || (left[p] != x && right[p] != x);
+    }
+
+    private void splay(int x) {
+        // Push pending reversals from the splay root down to x
+        int top = 0;
+        stack[top++] = x;
+        for (int y = x; !isSplayRoot(y); y = parent[y]) {
+            stack[top++] = parent[y];
+        }
+        while (top > 0) {
+            push(stack[--top]);
+        }
+
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) {
+                int g = parent[p];
+                boolean zigZig = (left[g] == p) == (left[p] == x);
+                rotate(zigZig ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        boolean pIsRoot = isSplayRoot(p);
+
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != NONE) parent[right[x]] = p;
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != NONE) parent[left[x]] = p;
+            left[x] = p;
+        }
+        parent[p] = x;
+        parent[x] = g;
+
+        if (!pIsRoot) {
+            if (left[g] == p) left[g] = x;
+            else right[g] = x;
+        }
+
+        update(p);
+        update(x);
+    }
+
+    private void push(int x) {
+        if (reversed[x]) {
+            int tmp = left[x];
+            left[x] = right[x];
+            right[x] = tmp;
+            if (left[x] != NONE) reversed[left[x]] = !reversed[left[x]];
+            if (right[x] != NONE) reversed[right[x]] = !reversed[right[x]];
+            reversed[x] = false;
+        }
+    }
+
+    private void update(int x) {
+        int best = x;
+        if (left[x] != NONE && value[maxNode[left[x]]] > value[best]) best = maxNode[left[x]];
+        if (right[x] != NONE && value[maxNode[right[x]]] > value[best]) best = maxNode[right[x]];
+        maxNode[x] = best;
+    }
+
+    private void grow() {
+        int length = left.length * 2;
+        left = Arrays.copyOf(left, length);
+        right = Arrays.copyOf(right, length);
+        parent = Arrays.copyOf(parent, length);
+        value = Arrays.copyOf(value, length);
+        maxNode = Arrays.copyOf(maxNode, length);
+        reversed = Arrays.copyOf(reversed, length);
+        stack = Arrays.copyOf(stack, length);
+    }
+}
@@ -0,0 +1,17 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+
+/**
+ * Common contract of the MST engines, used by the comparison framework
+ */
+public interface MSTAlgorithm {
+
+    /**
+     * Name reported in MSTResult and analysis tables
+     */
+    String getName();
+
+    MSTResult findMST(Graph graph);
+}
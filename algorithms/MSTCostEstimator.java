@@ -0,0 +1,157 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import java.util.*;
+
+/**
+ * Approximates the MST cost of a connected graph without building the tree
+ * (Chazelle-Rubinfeld-Trevisan)
+ *
+ * With integer weights in [0, W] the MST cost equals the sum over thresholds
+ * i in [0, W) of (c_i - 1), where c_i counts the components of the subgraph
+ * of edges with weight <= i. Each c_i is estimated by sampling vertices and
+ * measuring their component with a BFS capped at 2/accuracy vertices, so the
+ * work depends on the sample size, the cap and vertex degrees but not on E.
+ * Above 1/accuracy thresholds are spaced geometrically by (1 + accuracy).
+ * The BFS walks the adjacency in place and reuses its visited set and queue;
+ * the only O(V) step is listing the vertices to sample from. The weight
+ * bound W is passed in, e.g. from the sorted edge index or a domain limit,
+ * because finding it would mean scanning every edge.
+ */
+public class MSTCostEstimator {
+    private final double accuracy;
+    private final double confidence;
+    private final Random random;
+
+    /**
+     * Result of one estimation run
+     */
+    public static class Estimate {
+        private final double estimatedCost;
+        private final int thresholds;
+        private final long sampledVertices;
+        private final long visitedVertices;
+        private final long executionTimeNanos;
+
+        Estimate(double estimatedCost, int thresholds, long sampledVertices,
+                 long visitedVertices, long executionTimeNanos) {
+            this.estimatedCost = estimatedCost;
+            this.thresholds = thresholds;
+            this.sampledVertices = sampledVertices;
+            this.visitedVertices = visitedVertices;
+            this.executionTimeNanos = executionTimeNanos;
+        }
+
+        // Getters
+        public double getEstimatedCost() { return estimatedCost; }
+        public int getThresholds() { return thresholds; }
+        public long getSampledVertices() { return sampledVertices; }
+        public long getVisitedVertices() { return visitedVertices; }
+        public long getExecutionTimeNanos() { return executionTimeNanos; }
+
+        /**
+         * Gets the relative error against an exact MST cost
+         */
+        public double relativeError(long exactCost) {
+            return exactCost == 0 ? Math.abs(estimatedCost) : Math.abs(estimatedCost - exactCost) / exactCost;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Estimate{cost=%.1f, thresholds=%d, samples=%d, visited=%d}",
+                    estimatedCost, thresholds, sampledVertices, visitedVertices);
+        }
+    }
+
+    /**
+     * @param accuracy   target relative accuracy, e.g. 0.05 for 5%
+     * @param confidence probability that each component count is within accuracy, e.g. 0.95
+     */
+    public MSTCostEstimator(double accuracy, double confidence) {
+        this(accuracy, confidence, new Random());
+    }
+
+    public MSTCostEstimator(double accuracy, double confidence, Random random) {
+        if (!(accuracy > 0 && accuracy < 1)) {
+            throw new IllegalArgumentException("Accuracy must be between 0 and 1");
+        }
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1");
+        }
+        this.accuracy = accuracy;
+        this.confidence = confidence;
+        this.random = random;
+    }
+
+    /**
+     * Estimates the MST cost given an upper bound on edge weights
+     */
+    public Estimate estimate(Graph graph, int maxWeight) {
+        long startTime = System.nanoTime();
+        List<String> vertices = graph.getVertices();
+        int n = vertices.size();
+        if (n <= 1 || maxWeight <= 0) {
+            return new Estimate(0, 0, 0, 0, System.nanoTime() - startTime);
+        }
+
+        int samples = (int) Math.ceil(Math.log(2 / (1 - confidence)) / (2 * accuracy * accuracy));
+        int cap = (int) Math.ceil(2 / accuracy);
+
+        Set<String> seen = new HashSet<>();
+        ArrayDeque<String> queue = new ArrayDeque<>();
+        double estimate = 0;
+        int thresholdCount = 0;
+        long visited = 0;
+        for (int threshold = 0; threshold < maxWeight; ) {
+            int next = Math.min(maxWeight, Math.max(threshold + 1, (int) Math.floor(threshold * (1 + accuracy))));
+
+            // c_threshold is n times the mean of 1/|component| over random vertices
+            double inverseSizes = 0;
+            for (int s = 0; s < samples; s++) {
+                int size = cappedComponentSize(graph, vertices.get(random.nextInt(n)), threshold, cap,
+                        seen, queue);
+                visited += size;
+                if (size <= cap) {
+                    inverseSizes += 1.0 / size;
+                }
+            }
+            double components = Math.max(1.0, n * inverseSizes / samples);
+
+            estimate += (next - threshold) * (components - 1);
+            thresholdCount++;
+            threshold = next;
+        }
+
+        return new Estimate(estimate, thresholdCount, (long) samples * thresholdCount, visited,
+                System.nanoTime() - startTime);
+    }
+
+    /**
+     * Gets the size of start's component using edges of weight <= threshold,
+     * or cap + 1 once it is known to be larger than cap
+     */
+    private int cappedComponentSize(Graph graph, String start, int threshold, int cap,
+                                    Set<String> seen, ArrayDeque<String> queue) {
+        // Both stay below cap + 2 entries, so clearing them is cheap
+        seen.clear();
+        queue.clear();
+        seen.add(start);
+        queue.add(start);
+
+        while (!queue.isEmpty()) {
+            String current = queue.poll();
+            for (Edge edge : graph.getIncidentEdgeView(current)) {
+                if (edge.getWeight() > threshold) continue;
+                String neighbor = edge.getOtherVertex(current);
+                if (seen.add(neighbor)) {
+                    if (seen.size() > cap) {
+                        return cap + 1;
+                    }
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return seen.size();
+    }
+}
@@ -0,0 +1,141 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.util.*;
+
+/**
+ * Sensitivity of a minimum spanning tree to single-road changes
+ *
+ * For a tree road the tolerance is how much the total cost rises if it
+ * closes: the weight of its cheapest replacement minus its own weight.
+ * For a non-tree road it is how far its cost can drop before it enters the
+ * tree: its weight minus the heaviest tree edge on the path it would close.
+ *
+ * Non-tree edges are swept in weight order and each one is assigned as the
+ * replacement of every still-unassigned tree edge on its tree path; a
+ * union-find over tree vertices skips assigned edges, so the sweep is near
+ * linear after the sorted edge index is built.
+ */
+public class MSTSensitivityAnalysis {
+
+    /**
+     * Tolerance of one edge of the graph
+     */
+    public static class EdgeSensitivity {
+        private final Edge edge;
+        private final boolean treeEdge;
+        private final Edge replacement;
+        private final int tolerance;
+
+        EdgeSensitivity(Edge edge, boolean treeEdge, Edge replacement, int tolerance) {
+            this.edge = edge;
+            this.treeEdge = treeEdge;
+            this.replacement = replacement;
+            this.tolerance = tolerance;
+        }
+
+        // Getters
+        public Edge getEdge() { return edge; }
+        public boolean isTreeEdge() { return treeEdge; }
+
+        /**
+         * Gets the cheapest edge reconnecting the tree if this tree edge closes
+         * (null for bridges and non-tree edges)
+         */
+        public Edge getReplacement() { return replacement; }
+
+        /**
+         * Cost increase if a tree edge closes (Integer.MAX_VALUE for bridges),
+         * or the weight drop a non-tree edge absorbs before entering the tree
+         */
+        public int getTolerance() { return tolerance; }
+
+        public boolean isBridge() {
+            return treeEdge && replacement == null;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("EdgeSensitivity{edge=%s, tree=%b, tolerance=%s}", edge, treeEdge,
+                    isBridge() ? "bridge" : String.valueOf(tolerance));
+        }
+    }
+
+    /**
+     * Computes tolerances for every edge of the graph
+     * The result may be a spanning tree or, for disconnected graphs, a spanning forest.
+     */
+    public List<EdgeSensitivity> analyze(Graph graph, MSTResult mst) {
+        List<String> vertices = graph.getVertices();
+        List<Edge> treeEdges = mst.getMstEdges() != null ? mst.getMstEdges() : Collections.emptyList();
+        if (treeEdges.isEmpty() && mst.getTotalCost() == Integer.MAX_VALUE && vertices.size() > 1) {
+            throw new IllegalArgumentException(
+                    "MST result has no tree, use SpanningForestAlgorithm for disconnected graphs");
+        }
+
+        Map<String, Integer> vertexIndex = new HashMap<>(vertices.size() * 2);
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        int[] sources = new int[treeEdges.size()];
+        int[] destinations = new int[treeEdges.size()];
+        long[] weights = new long[treeEdges.size()];
+        Set<String> treeEdgeIds = new HashSet<>(treeEdges.size() * 2);
+        for (int i = 0; i < treeEdges.size(); i++) {
+            Edge edge = treeEdges.get(i);
+            sources[i] = vertexIndex.get(edge.getSource());
+            destinations[i] = vertexIndex.get(edge.getDestination());
+            weights[i] = edge.getWeight();
+            treeEdgeIds.add(edge.getId());
+        }
+        TreePathMax tree = new TreePathMax(vertices.size(), sources, destinations, weights, treeEdges.size());
+
+        // Tree edges are identified by their child vertex in the rooted tree
+        Edge[] replacementOf = new Edge[vertices.size()];
+        // Skip pointers past tree edges that already have a replacement
+        IntUnionFind jump = new IntUnionFind(vertices.size());
+
+        List<EdgeSensitivity> result = new ArrayList<>(graph.getEdgeCount());
+        for (Edge edge : graph.getSortedEdges()) {
+            if (treeEdgeIds.contains(edge.getId())) continue;
+
+            int u = vertexIndex.get(edge.getSource());
+            int v = vertexIndex.get(edge.getDestination());
+            if (!tree.connected(u, v)) {
+                throw new IllegalArgumentException("Edge " + edge + " joins two trees of the forest");
+            }
+
+            int ancestor = tree.lca(u, v);
+            assignReplacement(tree, jump, replacementOf, u, ancestor, edge);
+            assignReplacement(tree, jump, replacementOf, v, ancestor, edge);
+
+            result.add(new EdgeSensitivity(edge, false, null,
+                    edge.getWeight() - (int) tree.pathMax(u, v)));
+        }
+
+        for (Edge edge : treeEdges) {
+            int u = vertexIndex.get(edge.getSource());
+            int v = vertexIndex.get(edge.getDestination());
+            int child = tree.parent(u) == v ? u : v;
+            Edge replacement = replacementOf[child];
+            int tolerance = replacement != null ? replacement.getWeight() - edge.getWeight() : Integer.MAX_VALUE;
+            result.add(new EdgeSensitivity(edge, true, replacement, tolerance));
+        }
+
+        return result;
+    }
+
+    // Marks every unassigned tree edge between vertex and ancestor as replaced by edge
+    private void assignReplacement(TreePathMax tree, IntUnionFind jump, Edge[] replacementOf,
+                                   int vertex, int ancestor, Edge edge) {
+        int x = jump.find(vertex);
+        while (tree.depth(x) > tree.depth(ancestor)) {
+            replacementOf[x] = edge;
+            jump.attach(x, tree.parent(x));
+            x = jump.find(x);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Picks the fastest MST algorithm for a graph's shape
+ *
+ * Graphs are bucketed by size, density and weight range. For each shape the
+ * profile keeps the measured nanoseconds per vertex-plus-edge of every
+ * candidate; the candidate with the lowest cost is used. A shape seen for
+ * the first time is calibrated by timing every candidate on a small random
+ * probe graph of the same density and weight range, and each real run
+ * refines the cost of the algorithm that ran. The profile is a properties
+ * file, so later runs start from what earlier runs measured.
+ */
+public class MSTSolver implements MSTAlgorithm {
+    private static final int PROBE_VERTICES = 1000;
+    private static final int PROBE_RUNS = 3;
+    private static final int MAX_SAMPLES = 20;
+
+    private final List<MSTAlgorithm> candidates;
+    private final File profileFile;
+    private final Properties profile = new Properties();
+
+    /**
+     * @param candidates  algorithms to choose from, all expected to find the same MST cost
+     * @param profilePath profile to load now and write on save(), created if missing
+     */
+    public MSTSolver(List<MSTAlgorithm> candidates, String profilePath) throws IOException {
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("At least one candidate algorithm is required");
+        }
+        this.candidates = new ArrayList<>(candidates);
+        this.profileFile = new File(profilePath);
+
+        if (profileFile.exists()) {
+            try (Reader reader = new InputStreamReader(new FileInputStream(profileFile), StandardCharsets.UTF_8)) {
+                profile.load(reader);
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "MSTSolver";
+    }
+
+    /**
+     * Finds the MST with the algorithm the profile predicts to be fastest
+     * The result keeps the name of the algorithm that actually ran and the
+     * graph's version, even if that algorithm did not record it.
+     */
+    @Override
+    public MSTResult findMST(Graph graph) {
+        int maxWeight = maxWeightOf(graph);
+        String shape = shapeOf(graph, maxWeight);
+        MSTAlgorithm algorithm = choose(shape, graph, maxWeight);
+
+        long start = System.nanoTime();
+        MSTResult result = algorithm.findMST(graph);
+        record(shape, algorithm, System.nanoTime() - start, graph.getVertexCount() + graph.getEdgeCount());
+        if (result.getSnapshotVersion() != graph.getVersion()) {
+            result = new MSTResult(result.getAlgorithm(), result.getMstEdges(), result.getTotalCost(),
+                    result.getExecutionTimeMs(), result.getOperationsCount(), result.getVertexCount(),
+                    result.getEdgeCount(), graph.getVersion());
+        }
+        return result;
+    }
+
+    /**
+     * Gets the candidate with the lowest predicted cost, calibrating the shape first if needed
+     */
+    public MSTAlgorithm choose(Graph graph) {
+        int maxWeight = maxWeightOf(graph);
+        return choose(shapeOf(graph, maxWeight), graph, maxWeight);
+    }
+
+    // Shape and max weight come from the caller, so the graph's edges are scanned once per solve
+    private MSTAlgorithm choose(String shape, Graph graph, int maxWeight) {
+        if (!isCalibrated(shape)) {
+            calibrate(shape, graph, maxWeight);
+        }
+
+        MSTAlgorithm best = candidates.get(0);
+        double bestCost = Double.MAX_VALUE;
+        for (MSTAlgorithm candidate : candidates) {
+            double cost = getCost(shape, candidate.getName());
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the profiled cost in nanoseconds per vertex-plus-edge, NaN if unknown
+     */
+    public double getCost(String shape, String algorithmName) {
+        String value = profile.getProperty(shape + "." + algorithmName + ".cost");
+        if (value == null) return Double.NaN;
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN; // Treat a damaged entry as unknown
+        }
+    }
+
+    /**
+     * Writes the profile back to its file
+     */
+    public void save() throws IOException {
+        File parent = profileFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(profileFile), StandardCharsets.UTF_8)) {
+            profile.store(writer, "MST algorithm cost profile, nanoseconds per vertex+edge by graph shape");
+        }
+    }
+
+    /**
+     * Gets the shape bucket of a graph: log2 of V+E, log2 of the average
+     * degree and the weight range in steps of four bits
+     */
+    public static String shapeOf(Graph graph) {
+        return shapeOf(graph, maxWeightOf(graph));
+    }
+
+    private static String shapeOf(Graph graph, int maxWeight) {
+        int vertices = graph.getVertexCount();
+        int edges = graph.getEdgeCount();
+        int size = log2(vertices + edges);
+        int density = vertices == 0 ? 0 : log2(2 * edges / vertices);
+        int weight = log2(maxWeight) / 4;
+        return "s" + size + "_d" + density + "_w" + weight;
+    }
+
+    private static int maxWeightOf(Graph graph) {
+        int maxWeight = 0;
+        for (Edge edge : graph.getEdges()) {
+            maxWeight = Math.max(maxWeight, edge.getWeight());
+        }
+        return maxWeight;
+    }
+
+    private static int log2(long value) {
+        return value <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(value);
+    }
+
+    private boolean isCalibrated(String shape) {
+        for (MSTAlgorithm candidate : candidates) {
+            if (Double.isNaN(getCost(shape, candidate.getName()))) return false;
+        }
+        return true;
+    }
+
+    // Times every uncalibrated candidate on a probe graph shaped like the given one
+    private void calibrate(String shape, Graph graph, int maxWeight) {
+        Graph probe = probeGraph(graph, maxWeight);
+        int elements = Math.max(1, probe.getVertexCount() + probe.getEdgeCount());
+
+        for (MSTAlgorithm candidate : candidates) {
+            if (!Double.isNaN(getCost(shape, candidate.getName()))) continue;
+
+            long bestNanos = Long.MAX_VALUE;
+            for (int run = 0; run < PROBE_RUNS; run++) {
+                // The probe has no sorted edge index and solving does not build one, so runs stay comparable
+                long start = System.nanoTime();
+                candidate.findMST(probe);
+                bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            }
+            profile.setProperty(shape + "." + candidate.getName() + ".cost",
+                    Double.toString((double) bestNanos / elements));
+            profile.setProperty(shape + "." + candidate.getName() + ".samples", "1");
+        }
+    }
+
+    // Connected random graph with the density and weight range of graph, at most PROBE_VERTICES vertices
+    private static Graph probeGraph(Graph graph, int graphMaxWeight) {
+        int vertices = Math.max(2, Math.min(graph.getVertexCount(), PROBE_VERTICES));
+        double averageDegree = graph.getVertexCount() == 0 ? 0 : 2.0 * graph.getEdgeCount() / graph.getVertexCount();
+        long maxEdges = (long) vertices * (vertices - 1) / 2;
+        int edges = (int) Math.min(maxEdges, Math.max(vertices - 1, Math.round(averageDegree * vertices / 2)));
+        int maxWeight = Math.max(1, graphMaxWeight);
+
+        Random random = new Random(vertices * 31L + edges);
+        Graph probe = new Graph("probe");
+        for (int i = 0; i < vertices; i++) {
+            probe.addVertex("P" + i);
+        }
+        for (int i = 1; i < vertices; i++) {
+            probe.addEdge(new Edge("P" + i, "P" + random.nextInt(i), random.nextInt(maxWeight) + 1));
+        }
+        while (probe.getEdgeCount() < edges) {
+            int a = random.nextInt(vertices);
+            int b = random.nextInt(vertices);
+            if (a != b && !probe.containsEdge("P" + a, "P" + b)) {
+                probe.addEdge(new Edge("P" + a, "P" + b, random.nextInt(maxWeight) + 1));
+            }
+        }
+        return probe;
+    }
+
+    // Folds a real measurement into the running average, weighting recent runs once samples saturate
+    private void record(String shape, MSTAlgorithm algorithm, long nanos, int elements) {
+        String key = shape + "." + algorithm.getName();
+        double measured = (double) nanos / Math.max(1, elements);
+        double cost = getCost(shape, algorithm.getName());
+        int samples = 0;
+        try {
+            samples = Integer.parseInt(profile.getProperty(key + ".samples", "0"));
+        } catch (NumberFormatException e) {
+            // Damaged entry, start over from this measurement
+        }
+
+        double updated = Double.isNaN(cost) || samples <= 0 ? measured : (cost * samples + measured) / (samples + 1);
+        profile.setProperty(key + ".cost", Double.toString(updated));
+        profile.setProperty(key + ".samples", Integer.toString(Math.min(samples + 1, MAX_SAMPLES)));
+    }
+}
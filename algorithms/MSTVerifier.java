@@ -0,0 +1,129 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.util.*;
+
+/**
+ * Certifies an MST result against its graph without running a second algorithm
+ *
+ * The tree must use existing edges, span all vertices without cycles and
+ * match the reported cost. Minimality is checked with the cycle property:
+ * no non-tree edge may be lighter than the heaviest tree edge on the path
+ * between its endpoints. All path maxima are answered in one batch by
+ * OfflinePathMax, so the whole check is O((V + E) α(V)).
+ */
+public class MSTVerifier {
+
+    /**
+     * Outcome of a verification with the first violation found
+     */
+    public static class Verification {
+        private final boolean valid;
+        private final String message;
+
+        Verification(boolean valid, String message) {
+            this.valid = valid;
+            this.message = message;
+        }
+
+        // Getters
+        public boolean isValid() { return valid; }
+        public String getMessage() { return message; }
+
+        @Override
+        public String toString() {
+            return (valid ? "VALID: " : "INVALID: ") + message;
+        }
+    }
+
+    public Verification verify(Graph graph, MSTResult result) {
+        List<String> vertices = graph.getVertices();
+        List<Edge> edges = graph.getEdges();
+        List<Edge> treeEdges = result.getMstEdges() != null ? result.getMstEdges() : Collections.emptyList();
+
+        Map<String, Integer> vertexIndex = new HashMap<>(vertices.size() * 2);
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        // A missing tree is only correct for a disconnected graph
+        if (result.getTotalCost() == Integer.MAX_VALUE && treeEdges.isEmpty()) {
+            IntUnionFind components = new IntUnionFind(vertices.size());
+            int componentCount = vertices.size();
+            for (Edge edge : edges) {
+                if (components.union(vertexIndex.get(edge.getSource()), vertexIndex.get(edge.getDestination()))) {
+                    componentCount--;
+                }
+            }
+            return componentCount > 1
+                    ? new Verification(true, "graph is disconnected, no spanning tree exists")
+                    : new Verification(false, "graph is connected but no tree was reported");
+        }
+
+        if (treeEdges.size() != Math.max(vertices.size() - 1, 0)) {
+            return new Verification(false, "tree has " + treeEdges.size() + " edges, expected "
+                    + (vertices.size() - 1));
+        }
+
+        Map<String, Edge> graphEdges = new HashMap<>(edges.size() * 2);
+        for (Edge edge : edges) {
+            graphEdges.put(edge.getId(), edge);
+        }
+
+        // Tree edges must exist, form no cycle and add up to the reported cost
+        IntUnionFind uf = new IntUnionFind(vertices.size());
+        int[] sources = new int[treeEdges.size()];
+        int[] destinations = new int[treeEdges.size()];
+        long[] weights = new long[treeEdges.size()];
+        Set<String> treeEdgeIds = new HashSet<>(treeEdges.size() * 2);
+        long cost = 0;
+
+        for (int i = 0; i < treeEdges.size(); i++) {
+            Edge edge = treeEdges.get(i);
+            Edge graphEdge = graphEdges.get(edge.getId());
+            if (graphEdge == null || graphEdge.getWeight() != edge.getWeight()) {
+                return new Verification(false, "tree edge " + edge + " is not in the graph");
+            }
+
+            sources[i] = vertexIndex.get(edge.getSource());
+            destinations[i] = vertexIndex.get(edge.getDestination());
+            weights[i] = edge.getWeight();
+            if (!uf.union(sources[i], destinations[i])) {
+                return new Verification(false, "tree edge " + edge + " closes a cycle");
+            }
+
+            treeEdgeIds.add(edge.getId());
+            cost += edge.getWeight();
+        }
+
+        // Compared as int because the algorithms sum costs in int arithmetic
+        if ((int) cost != result.getTotalCost()) {
+            return new Verification(false, "reported cost " + result.getTotalCost()
+                    + " differs from tree cost " + cost);
+        }
+
+        // Cycle property for every non-tree edge
+        List<Edge> nonTreeEdges = new ArrayList<>(edges.size());
+        for (Edge edge : edges) {
+            if (!treeEdgeIds.contains(edge.getId())) nonTreeEdges.add(edge);
+        }
+        int[] queryU = new int[nonTreeEdges.size()];
+        int[] queryV = new int[nonTreeEdges.size()];
+        for (int i = 0; i < nonTreeEdges.size(); i++) {
+            queryU[i] = vertexIndex.get(nonTreeEdges.get(i).getSource());
+            queryV[i] = vertexIndex.get(nonTreeEdges.get(i).getDestination());
+        }
+        long[] heaviest = OfflinePathMax.query(vertices.size(), sources, destinations, weights, treeEdges.size(),
+                queryU, queryV, queryU.length);
+        for (int i = 0; i < nonTreeEdges.size(); i++) {
+            if (nonTreeEdges.get(i).getWeight() < heaviest[i]) {
+                return new Verification(false, "edge " + nonTreeEdges.get(i)
+                        + " is lighter than the tree path maximum " + heaviest[i]);
+            }
+        }
+
+        return new Verification(true, "spanning tree of cost " + cost + " is minimal");
+    }
+}
@@ -0,0 +1,294 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Multilevel MST by Borůvka contraction
+ *
+ * Every level takes the lightest edge of each vertex, which is always an MST
+ * edge, contracts along those edges, drops the resulting self-loops and keeps
+ * only the lightest of any parallel edges between two supernodes. Each level
+ * at least halves the vertex count. Once the coarse graph has at most
+ * COARSE_EDGES edges it is solved with KruskalAlgorithm and the coarse tree
+ * is expanded back to the original edges.
+ *
+ * Minimum edges, pointer jumping, relabelling and deduplication run in
+ * parallel; edges compare by (weight, original index) so ties never close a
+ * cycle across levels. The engine keeps no per-call state, so one instance
+ * can serve concurrent calls; the level sizes come back with each Result.
+ */
+public class MultilevelMSTAlgorithm implements MSTAlgorithm {
+    private static final int DEFAULT_COARSE_EDGES = 4096;
+    private static final long NONE = Long.MAX_VALUE;
+
+    private final int coarseEdges;
+
+    /**
+     * Size of one contraction level
+     */
+    public static class Level {
+        private final int vertices;
+        private final int edges;
+
+        Level(int vertices, int edges) {
+            this.vertices = vertices;
+            this.edges = edges;
+        }
+
+        // Getters
+        public int getVertices() { return vertices; }
+        public int getEdges() { return edges; }
+
+        @Override
+        public String toString() {
+            return "Level{vertices=" + vertices + ", edges=" + edges + "}";
+        }
+    }
+
+    /**
+     * MST result with the graph size at every contraction level
+     */
+    public static class Result extends MSTResult {
+        private final List<Level> levels;
+
+        Result(String algorithm, List<Edge> mstEdges, int totalCost, long executionTimeMs,
+               int operationsCount, int vertexCount, int edgeCount, long snapshotVersion, List<Level> levels) {
+            super(algorithm, mstEdges, totalCost, executionTimeMs, operationsCount, vertexCount, edgeCount,
+                    snapshotVersion);
+            this.levels = Collections.unmodifiableList(levels);
+        }
+
+        /**
+         * Gets the graph sizes level by level, input graph first
+         */
+        public List<Level> getLevels() { return levels; }
+    }
+
+    public MultilevelMSTAlgorithm() {
+        this(DEFAULT_COARSE_EDGES);
+    }
+
+    /**
+     * @param coarseEdges edge count at or below which the coarse graph goes to Kruskal
+     */
+    public MultilevelMSTAlgorithm(int coarseEdges) {
+        if (coarseEdges < 0) {
+            throw new IllegalArgumentException("Coarse edge threshold must not be negative");
+        }
+        this.coarseEdges = coarseEdges;
+    }
+
+    @Override
+    public String getName() {
+        return "Multilevel";
+    }
+
+    @Override
+    public Result findMST(Graph graph) {
+        long startTime = System.nanoTime();
+        long operations = 0;
+        int n = graph.getVertexCount();
+
+        if (n == 0) {
+            return new Result(getName(), Collections.emptyList(), 0, 0, 0, 0, 0, graph.getVersion(),
+                    Collections.emptyList());
+        }
+
+        List<String> vertices = graph.getVertices();
+        Map<String, Integer> vertexIndex = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+        Edge[] edges = graph.getEdges().toArray(new Edge[0]);
+        LevelEdges level = new LevelEdges(edges.length);
+        for (int e = 0; e < edges.length; e++) {
+            level.source[e] = vertexIndex.get(edges[e].getSource());
+            level.destination[e] = vertexIndex.get(edges[e].getDestination());
+            level.key[e] = ((long) edges[e].getWeight() << 32) | e;
+        }
+
+        List<Level> levels = new ArrayList<>();
+        levels.add(new Level(n, level.size));
+        List<Edge> mstEdges = new ArrayList<>(n - 1);
+
+        while (level.size > coarseEdges && n > 1) {
+            int size = level.size;
+            LevelEdges current = level;
+
+            // Lightest edge of every vertex
+            AtomicLongArray best = new AtomicLongArray(n);
+            IntStream.range(0, n).parallel().forEach(v -> best.set(v, NONE));
+            IntStream.range(0, size).parallel().forEach(e -> {
+                minimize(best, current.source[e], current.key[e]);
+                minimize(best, current.destination[e], current.key[e]);
+            });
+
+            // Hook each vertex to the other end of its lightest edge, keys are unique per level
+            int[] other = new int[n];
+            Arrays.fill(other, -1);
+            IntStream.range(0, size).parallel().forEach(e -> {
+                if (best.get(current.source[e]) == current.key[e]) other[current.source[e]] = current.destination[e];
+                if (best.get(current.destination[e]) == current.key[e]) other[current.destination[e]] = current.source[e];
+            });
+            int[] parent = new int[n];
+            IntStream.range(0, n).parallel().forEach(v -> {
+                int target = other[v];
+                // Mutual choice: the smaller id becomes the root and the larger one records the edge
+                parent[v] = target < 0 || (other[target] == v && v < target) ? v : target;
+            });
+            boolean hooked = false;
+            for (int v = 0; v < n; v++) {
+                if (parent[v] != v) {
+                    mstEdges.add(edges[(int) best.get(v)]);
+                    hooked = true;
+                }
+            }
+            if (!hooked) break; // Only isolated vertices left
+
+            // Pointer jumping until every vertex points at its root
+            int[] jumped = new int[n];
+            int[] roots = parent;
+            boolean changed = true;
+            while (changed) {
+                int[] from = roots;
+                IntStream.range(0, n).parallel().forEach(v -> jumped[v] = from[from[v]]);
+                changed = !Arrays.equals(jumped, roots);
+                System.arraycopy(jumped, 0, roots, 0, n);
+            }
+
+            // Dense new ids for the roots
+            int[] newId = new int[n];
+            int[] label = new int[n];
+            int[] finalRoots = roots;
+            IntStream.range(0, n).parallel().forEach(v -> newId[v] = finalRoots[v] == v ? 1 : 0);
+            Arrays.parallelPrefix(newId, Integer::sum);
+            int coarseVertices = newId[n - 1];
+            IntStream.range(0, n).parallel().forEach(v -> label[v] = newId[finalRoots[v]] - 1);
+
+            level = contract(current, label, coarseVertices);
+            operations += n + 2L * size;
+            n = coarseVertices;
+            levels.add(new Level(n, level.size));
+        }
+
+        // Solve the coarse graph and expand its tree to the original edges
+        if (n > 1) {
+            Graph coarse = new Graph(graph.getId() + "_coarse");
+            for (int v = 0; v < n; v++) {
+                coarse.addVertex("S" + v);
+            }
+            Map<String, Edge> original = new HashMap<>(level.size * 2);
+            for (int e = 0; e < level.size; e++) {
+                Edge edge = new Edge("S" + level.source[e], "S" + level.destination[e], (int) (level.key[e] >>> 32));
+                coarse.addEdge(edge);
+                original.put(edge.getId(), edges[(int) level.key[e]]);
+            }
+            MSTResult coarseResult = new KruskalAlgorithm().findMST(coarse);
+            operations += coarseResult.getOperationsCount();
+            for (Edge edge : coarseResult.getMstEdges()) {
+                mstEdges.add(original.get(edge.getId()));
+            }
+        }
+
+        long executionTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+
+        // Check if we found a complete MST
+        int totalCost = Integer.MAX_VALUE;
+        if (mstEdges.size() == graph.getVertexCount() - 1) {
+            totalCost = mstEdges.stream().mapToInt(Edge::getWeight).sum();
+        } else {
+            mstEdges = Collections.emptyList(); // No MST for disconnected graph
+        }
+
+        return new Result(getName(), mstEdges, totalCost, executionTimeMs,
+                (int) Math.min(operations, Integer.MAX_VALUE), graph.getVertexCount(), graph.getEdgeCount(),
+                graph.getVersion(), levels);
+    }
+
+    // Relabels endpoints, drops self-loops and keeps the lightest edge per supernode pair
+    private static LevelEdges contract(LevelEdges level, int[] label, int coarseVertices) {
+        // Bucket surviving edges by their smaller endpoint
+        int[] start = new int[coarseVertices + 1];
+        for (int e = 0; e < level.size; e++) {
+            int a = label[level.source[e]];
+            int b = label[level.destination[e]];
+            if (a != b) start[Math.min(a, b) + 1]++;
+        }
+        for (int v = 0; v < coarseVertices; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] fill = Arrays.copyOf(start, coarseVertices);
+        int[] bucketed = new int[start[coarseVertices]];
+        for (int e = 0; e < level.size; e++) {
+            int a = label[level.source[e]];
+            int b = label[level.destination[e]];
+            if (a != b) bucketed[fill[Math.min(a, b)]++] = e;
+        }
+
+        // Per bucket, sort by other endpoint and keep the lightest of each run
+        int[] kept = new int[bucketed.length];
+        int[] keptCount = new int[coarseVertices + 1];
+        IntStream.range(0, coarseVertices).parallel().forEach(a -> {
+            int from = start[a];
+            int count = start[a + 1] - from;
+            long[] byOther = new long[count];
+            for (int i = 0; i < count; i++) {
+                int e = bucketed[from + i];
+                int b = Math.max(label[level.source[e]], label[level.destination[e]]);
+                byOther[i] = ((long) b << 32) | e;
+            }
+            Arrays.sort(byOther);
+            int written = 0;
+            for (int i = 0; i < count; ) {
+                int b = (int) (byOther[i] >>> 32);
+                int lightest = (int) byOther[i];
+                for (i++; i < count && (int) (byOther[i] >>> 32) == b; i++) {
+                    int e = (int) byOther[i];
+                    if (level.key[e] < level.key[lightest]) lightest = e;
+                }
+                kept[from + written++] = lightest;
+            }
+            keptCount[a + 1] = written;
+        });
+        Arrays.parallelPrefix(keptCount, Integer::sum);
+
+        LevelEdges coarse = new LevelEdges(keptCount[coarseVertices]);
+        IntStream.range(0, coarseVertices).parallel().forEach(a -> {
+            for (int i = 0; i < keptCount[a + 1] - keptCount[a]; i++) {
+                int e = kept[start[a] + i];
+                int out = keptCount[a] + i;
+                coarse.source[out] = label[level.source[e]];
+                coarse.destination[out] = label[level.destination[e]];
+                coarse.key[out] = level.key[e];
+            }
+        });
+        return coarse;
+    }
+
+    private static void minimize(AtomicLongArray values, int index, long value) {
+        long current;
+        while (value < (current = values.get(index))) {
+            if (values.compareAndSet(index, current, value)) return;
+        }
+    }
+
+    // Edge arrays of one level, key is (weight << 32 | original edge index)
+    private static class LevelEdges {
+        final int size;
+        final int[] source;
+        final int[] destination;
+        final long[] key;
+
+        LevelEdges(int size) {
+            this.size = size;
+            source = new int[size];
+            destination = new int[size];
+            key = new long[size];
+        }
+    }
+}
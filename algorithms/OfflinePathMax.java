@@ -0,0 +1,159 @@
+package com.transportation.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Answers a batch of maximum-edge-on-path queries over a forest of int
+ * vertices in O((V + Q) α(V)) time, after an O(V) radix sort of the keys.
+ *
+ * The forest edges are merged in key order into a Kruskal reconstruction
+ * tree: each merge adds a node carrying the merging edge's key above the
+ * two components it joins, so the heaviest edge on the forest path between
+ * u and v is the key of their lowest common ancestor there. All lowest
+ * common ancestors are then found in one pass of Tarjan's offline algorithm.
+ *
+ * Edge keys are longs so callers can break weight ties deterministically,
+ * e.g. by packing (weight << 32 | edgeIndex).
+ */
+final class OfflinePathMax {
+
+    private OfflinePathMax() {
+    }
+
+    /**
+     * Finds the largest key on the forest path of every query
+     * @return per query, the maximum key, Long.MIN_VALUE if both endpoints are
+     *         the same vertex and Long.MAX_VALUE if they are not connected
+     */
+    static long[] query(int vertexCount, int[] sources, int[] destinations, long[] keys, int edgeCount,
+                        int[] queryU, int[] queryV, int queryCount) {
+        // Reconstruction tree: leaves 0..V-1, one inner node per merge, children before parents
+        int[] parent = new int[vertexCount + edgeCount];
+        int[] left = new int[vertexCount + edgeCount];
+        int[] right = new int[vertexCount + edgeCount];
+        long[] nodeKey = new long[vertexCount + edgeCount];
+        Arrays.fill(parent, -1);
+
+        IntUnionFind components = new IntUnionFind(vertexCount);
+        int[] top = new int[vertexCount];
+        for (int x = 0; x < vertexCount; x++) {
+            top[x] = x;
+        }
+        int nodeCount = vertexCount;
+        for (int e : sortByKey(keys, edgeCount)) {
+            int rootU = components.find(sources[e]);
+            int rootV = components.find(destinations[e]);
+            if (rootU == rootV) continue;
+            int node = nodeCount++;
+            left[node] = top[rootU];
+            right[node] = top[rootV];
+            parent[top[rootU]] = node;
+            parent[top[rootV]] = node;
+            nodeKey[node] = keys[e];
+            components.union(rootU, rootV);
+            top[components.find(rootU)] = node;
+        }
+
+        // Queries by endpoint; trivial and disconnected ones are answered right away
+        long[] result = new long[queryCount];
+        int[] start = new int[vertexCount + 1];
+        for (int q = 0; q < queryCount; q++) {
+            if (queryU[q] == queryV[q]) {
+                result[q] = Long.MIN_VALUE;
+            } else if (components.find(queryU[q]) != components.find(queryV[q])) {
+                result[q] = Long.MAX_VALUE;
+            } else {
+                start[queryU[q] + 1]++;
+                start[queryV[q] + 1]++;
+            }
+        }
+        for (int x = 0; x < vertexCount; x++) {
+            start[x + 1] += start[x];
+        }
+        int[] fill = start.clone();
+        int[] pending = new int[start[vertexCount]];
+        for (int q = 0; q < queryCount; q++) {
+            if (queryU[q] != queryV[q] && components.find(queryU[q]) == components.find(queryV[q])) {
+                pending[fill[queryU[q]]++] = q;
+                pending[fill[queryV[q]]++] = q;
+            }
+        }
+
+        // Tarjan's offline LCA with an iterative post-order walk of every tree
+        IntUnionFind finished = new IntUnionFind(nodeCount);
+        int[] ancestor = new int[nodeCount];
+        boolean[] done = new boolean[vertexCount];
+        boolean[] expanded = new boolean[nodeCount];
+        int[] stack = new int[nodeCount];
+        for (int root = 0; root < nodeCount; root++) {
+            if (parent[root] != -1) continue;
+            int size = 0;
+            stack[size++] = root;
+            while (size > 0) {
+                int node = stack[size - 1];
+                if (!expanded[node]) {
+                    expanded[node] = true;
+                    ancestor[node] = node;
+                    if (node >= vertexCount) {
+                        stack[size++] = right[node];
+                        stack[size++] = left[node];
+                    }
+                    continue;
+                }
+                size--;
+
+                if (node < vertexCount) {
+                    done[node] = true;
+                    for (int i = start[node]; i < start[node + 1]; i++) {
+                        int q = pending[i];
+                        int other = queryU[q] == node ? queryV[q] : queryU[q];
+                        if (done[other]) {
+                            result[q] = nodeKey[ancestor[finished.find(other)]];
+                        }
+                    }
+                }
+                if (parent[node] != -1) {
+                    int above = parent[node];
+                    finished.union(above, node);
+                    ancestor[finished.find(node)] = above;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * LSD radix sort of edge indices by signed key, one byte per pass
+     * Passes where every key has the same byte are skipped.
+     */
+    private static int[] sortByKey(long[] keys, int count) {
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        int[] buffer = new int[count];
+        int[] offsets = new int[257];
+        for (int shift = 0; shift < 64 && count > 1; shift += 8) {
+            Arrays.fill(offsets, 0);
+            for (int i = 0; i < count; i++) {
+                offsets[digit(keys[order[i]], shift) + 1]++;
+            }
+            if (offsets[digit(keys[order[0]], shift) + 1] == count) continue;
+            for (int d = 0; d < 256; d++) {
+                offsets[d + 1] += offsets[d];
+            }
+            for (int i = 0; i < count; i++) {
+                buffer[offsets[digit(keys[order[i]], shift)]++] = order[i];
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    // Flipping the sign bit makes unsigned byte order match signed order
+    private static int digit(long key, int shift) {
+        return (int) (((key ^ Long.MIN_VALUE) >>> shift) & 0xFF);
+    }
+}
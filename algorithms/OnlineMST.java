@@ -0,0 +1,193 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.MSTResult;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Minimum spanning forest over an unbounded stream of edges
+ *
+ * Only the current forest is kept, so memory stays O(V) no matter how many
+ * edges pass through. Each incoming edge is compared against the heaviest
+ * edge on the tree path between its endpoints (link-cut tree, O(log V)) and
+ * replaces it when lighter. Vertices are discovered from the stream.
+ *
+ * Edges can be pushed directly, drained from an iterator or received as a
+ * Flow.Subscriber; cost and tree snapshots may be queried at any time.
+ */
+public class OnlineMST implements Flow.Subscriber<Edge> {
+    private static final int REQUEST_BATCH = 1024;
+
+    private final Map<String, Integer> vertexNodes = new HashMap<>();
+    private final LinkCutTree tree = new LinkCutTree(64);
+    // Tree edge owning each link-cut node, null for vertex and free nodes
+    private Edge[] nodeEdges = new Edge[64];
+
+    private long totalCost;
+    private int treeEdgeCount;
+    private long processedEdges;
+    private long operations;
+    private long processingNanos;
+
+    private Flow.Subscription subscription;
+    private int pendingRequests;
+    private final CountDownLatch completion = new CountDownLatch(1);
+    private volatile Throwable error;
+
+    /**
+     * Feeds one edge into the forest
+     */
+    public synchronized void addEdge(Edge edge) {
+        long startTime = System.nanoTime();
+        processedEdges++;
+        operations++;
+
+        int u = nodeOf(edge.getSource());
+        int v = nodeOf(edge.getDestination());
+        if (u != v) {
+            if (!tree.connected(u, v)) {
+                link(edge, u, v);
+            } else {
+                int maxNode = tree.pathMaxNode(u, v);
+                if (tree.getValue(maxNode) > edge.getWeight()) {
+                    cut(maxNode);
+                    link(edge, u, v);
+                }
+            }
+        }
+
+        processingNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Drains an iterator into the forest
+     */
+    public void addAll(Iterator<? extends Edge> edges) {
+        while (edges.hasNext()) {
+            addEdge(edges.next());
+        }
+    }
+
+    @Override
+    public synchronized void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        pendingRequests = REQUEST_BATCH;
+        subscription.request(REQUEST_BATCH);
+    }
+
+    @Override
+    public synchronized void onNext(Edge edge) {
+        addEdge(edge);
+        if (--pendingRequests == 0) {
+            pendingRequests = REQUEST_BATCH;
+            subscription.request(REQUEST_BATCH);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        completion.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        completion.countDown();
+    }
+
+    /**
+     * Waits until the publisher completes or fails
+     * @return false if the timeout elapsed first
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        return completion.await(timeout, unit);
+    }
+
+    public boolean isComplete() {
+        return completion.getCount() == 0;
+    }
+
+    /**
+     * Gets the failure reported by the publisher, if any
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    // Getters
+    public synchronized long getTotalCost() { return totalCost; }
+    public synchronized int getTreeEdgeCount() { return treeEdgeCount; }
+    public synchronized int getVertexCount() { return vertexNodes.size(); }
+    public synchronized long getProcessedEdgeCount() { return processedEdges; }
+
+    public synchronized boolean isSpanningTree() {
+        return treeEdgeCount == vertexNodes.size() - 1;
+    }
+
+    /**
+     * Copies the edges currently in the forest
+     */
+    public synchronized List<Edge> snapshot() {
+        List<Edge> result = new ArrayList<>(treeEdgeCount);
+        for (Edge edge : nodeEdges) {
+            if (edge != null) {
+                result.add(edge);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Snapshot of the current tree in the common result format.
+     * Execution time is the total time spent processing edges so far.
+     */
+    public synchronized MSTResult toMSTResult() {
+        boolean spanning = isSpanningTree() || vertexNodes.isEmpty();
+        List<Edge> treeEdges = spanning ? snapshot() : Collections.emptyList();
+        int cost = spanning ? (int) Math.min(totalCost, Integer.MAX_VALUE) : Integer.MAX_VALUE;
+
+        return new MSTResult("OnlineMST", treeEdges, cost, processingNanos / 1_000_000,
+                (int) Math.min(operations, Integer.MAX_VALUE), vertexNodes.size(),
+                (int) Math.min(processedEdges, Integer.MAX_VALUE));
+    }
+
+    private void link(Edge edge, int u, int v) {
+        int node = tree.addNode(edge.getWeight());
+        tree.link(u, node);
+        tree.link(node, v);
+        if (node >= nodeEdges.length) {
+            nodeEdges = Arrays.copyOf(nodeEdges, Math.max(node + 1, nodeEdges.length * 2));
+        }
+        nodeEdges[node] = edge;
+        totalCost += edge.getWeight();
+        treeEdgeCount++;
+        operations++;
+    }
+
+    private void cut(int node) {
+        Edge edge = nodeEdges[node];
+        tree.cut(nodeOf(edge.getSource()), node);
+        tree.cut(node, nodeOf(edge.getDestination()));
+        tree.releaseNode(node);
+        nodeEdges[node] = null;
+        totalCost -= edge.getWeight();
+        treeEdgeCount--;
+        operations++;
+    }
+
+    private int nodeOf(String vertex) {
+        Integer node = vertexNodes.get(vertex);
+        if (node == null) {
+            node = tree.addNode(Integer.MIN_VALUE);
+            vertexNodes.put(vertex, node);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,104 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Kruskal's algorithm with a parallel union-find pass
+ *
+ * Sorted edges are taken in batches. Every edge of a batch is first checked
+ * in parallel against a read-only snapshot of the union-find, dropping edges
+ * whose endpoints are already connected; the snapshot can only grow, so a
+ * dropped edge stays redundant. The survivors are then committed
+ * sequentially in weight order, which keeps the result identical to
+ * sequential Kruskal (deterministic reservations style speculation).
+ */
+public class ParallelKruskalAlgorithm implements MSTAlgorithm {
+    private static final int INITIAL_BATCH = 4096;
+    private static final int MAX_BATCH = 1 << 18;
+    private static final int PARALLEL_THRESHOLD = 2048;
+
+    @Override
+    public String getName() {
+        return "ParallelKruskal";
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        long startTime = System.nanoTime();
+        long operations = 0;
+        int n = graph.getVertexCount();
+
+        if (n == 0) {
+            return new MSTResult(getName(), Collections.emptyList(), 0, 0, 0, 0, 0, graph.getVersion());
+        }
+
+        // Sorted through packed keys and Arrays.parallelSort in Graph, reused when cached
+        boolean alreadySorted = graph.hasSortedEdgeIndex();
+        List<Edge> sortedEdges = graph.getSortedEdges();
+        if (!alreadySorted) {
+            operations += sortedEdges.size(); // Sort operations
+        }
+
+        List<String> vertices = graph.getVertices();
+        Map<String, Integer> vertexIndex = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+        int edgeCount = sortedEdges.size();
+        int[] source = new int[edgeCount];
+        int[] destination = new int[edgeCount];
+        parallelRange(edgeCount).forEach(e -> {
+            source[e] = vertexIndex.get(sortedEdges.get(e).getSource());
+            destination[e] = vertexIndex.get(sortedEdges.get(e).getDestination());
+        });
+        operations += n + edgeCount;
+
+        IntUnionFind uf = new IntUnionFind(n);
+
+        List<Edge> mstEdges = new ArrayList<>(n - 1);
+        boolean[] candidate = new boolean[Math.min(MAX_BATCH, Math.max(edgeCount, 1))];
+        int batch = Math.min(INITIAL_BATCH, candidate.length);
+        for (int from = 0; from < edgeCount && mstEdges.size() < n - 1;
+                from += batch, batch = Math.min(batch * 2, candidate.length)) {
+            int offset = from;
+            int size = Math.min(batch, edgeCount - from);
+
+            // Speculative check against the snapshot, no writes to the union-find here
+            parallelRange(size).forEach(i ->
+                    candidate[i] = uf.root(source[offset + i]) != uf.root(destination[offset + i]));
+            operations += 2L * size;
+
+            // Sequential commit in weight order
+            for (int i = 0; i < size && mstEdges.size() < n - 1; i++) {
+                if (!candidate[i]) continue;
+                operations += 2;
+                if (uf.union(source[offset + i], destination[offset + i])) {
+                    mstEdges.add(sortedEdges.get(offset + i));
+                    operations++;
+                }
+            }
+        }
+
+        long executionTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+
+        // Check if we found a complete MST
+        int totalCost = Integer.MAX_VALUE;
+        if (mstEdges.size() == n - 1) {
+            totalCost = mstEdges.stream().mapToInt(Edge::getWeight).sum();
+        } else {
+            mstEdges = Collections.emptyList(); // No MST for disconnected graph
+        }
+
+        return new MSTResult(getName(), mstEdges, totalCost, executionTimeMs,
+                (int) Math.min(operations, Integer.MAX_VALUE), n, graph.getEdgeCount(), graph.getVersion());
+    }
+
+    private static IntStream parallelRange(int size) {
+        IntStream range = IntStream.range(0, size);
+        return size >= PARALLEL_THRESHOLD ? range.parallel() : range;
+    }
+}
@@ -0,0 +1,291 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel Prim growing many trees at once
+ *
+ * Worker threads take unclaimed seed vertices and grow a tree from each with
+ * a thread-local heap, claiming vertices by compare-and-set. When a tree's
+ * lightest outgoing edge reaches a vertex owned by another tree, that edge is
+ * kept, the two trees are joined in a concurrent union-find and the worker
+ * moves on to a new seed. The contracted trees are then finished with
+ * parallel Borůvka rounds.
+ *
+ * Edges compare by (weight, edge index), so every edge taken is the unique
+ * lightest edge leaving some vertex set and belongs to the one MST under that
+ * order; the cost therefore always equals sequential Prim's.
+ *
+ * Each call runs in its own ForkJoinPool with the configured parallelism,
+ * so it neither occupies nor is limited by the common pool.
+ */
+public class ParallelPrimAlgorithm implements MSTAlgorithm {
+    private static final int UNOWNED = -1;
+
+    private final int parallelism;
+
+    public ParallelPrimAlgorithm() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelPrimAlgorithm(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String getName() {
+        return "ParallelPrim";
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        long startTime = System.nanoTime();
+        int n = graph.getVertexCount();
+
+        if (n == 0) {
+            return new MSTResult(getName(), Collections.emptyList(), 0, 0, 0, 0, 0, graph.getVersion());
+        }
+
+        // Compressed adjacency, slot i of vertex u leads to neighbor[i] over edge slotEdge[i]
+        List<String> vertices = graph.getVertices();
+        Map<String, Integer> vertexIndex = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+        Edge[] edges = graph.getEdges().toArray(new Edge[0]);
+        int[] edgeSource = new int[edges.length];
+        int[] edgeDestination = new int[edges.length];
+        int[] start = new int[n + 1];
+        for (int e = 0; e < edges.length; e++) {
+            edgeSource[e] = vertexIndex.get(edges[e].getSource());
+            edgeDestination[e] = vertexIndex.get(edges[e].getDestination());
+            start[edgeSource[e] + 1]++;
+            start[edgeDestination[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] fill = Arrays.copyOf(start, n);
+        int[] neighbor = new int[2 * edges.length];
+        int[] slotEdge = new int[2 * edges.length];
+        for (int e = 0; e < edges.length; e++) {
+            neighbor[fill[edgeSource[e]]] = edgeDestination[e];
+            slotEdge[fill[edgeSource[e]]++] = e;
+            neighbor[fill[edgeDestination[e]]] = edgeSource[e];
+            slotEdge[fill[edgeDestination[e]]++] = e;
+        }
+
+        Shared shared = new Shared(n, edges.length);
+
+        // Phase 1: grow independent trees from spread-out seeds
+        int[] seeds = new int[n];
+        for (int i = 0; i < n; i++) {
+            seeds[i] = i;
+        }
+        Random random = new Random(n);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = seeds[i];
+            seeds[i] = seeds[j];
+            seeds[j] = tmp;
+        }
+        AtomicInteger nextSeed = new AtomicInteger();
+
+        // Parallel streams run in the pool of the task that starts them, so both phases use this pool's threads
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> {
+                IntStream.range(0, parallelism).parallel().forEach(worker -> {
+                    LongHeap heap = new LongHeap();
+                    int seedPosition;
+                    while ((seedPosition = nextSeed.getAndIncrement()) < n) {
+                        int seed = seeds[seedPosition];
+                        if (shared.owner.compareAndSet(seed, UNOWNED, seed)) {
+                            growTree(seed, heap, shared, edges, edgeSource, edgeDestination, start, neighbor, slotEdge);
+                        }
+                    }
+                });
+
+                // Phase 2: Borůvka rounds over the contracted trees
+                boruvka(shared, n, edges, edgeSource, edgeDestination);
+            }).join();
+        } finally {
+            pool.shutdown();
+        }
+
+        List<Edge> mstEdges = new ArrayList<>(n - 1);
+        for (int e = 0; e < edges.length; e++) {
+            if (shared.taken.get(e) != 0) {
+                mstEdges.add(edges[e]);
+            }
+        }
+
+        long executionTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+
+        // Check if we found a complete MST
+        int totalCost = Integer.MAX_VALUE;
+        if (mstEdges.size() == n - 1) {
+            totalCost = mstEdges.stream().mapToInt(Edge::getWeight).sum();
+        } else {
+            mstEdges = Collections.emptyList(); // No MST for disconnected graph
+        }
+
+        return new MSTResult(getName(), mstEdges, totalCost, executionTimeMs,
+                (int) Math.min(shared.operations.sum(), Integer.MAX_VALUE), n, graph.getEdgeCount(),
+                graph.getVersion());
+    }
+
+    // Grows the tree rooted at seed until its lightest outgoing edge hits another tree
+    private void growTree(int seed, LongHeap heap, Shared shared, Edge[] edges, int[] edgeSource,
+                          int[] edgeDestination, int[] start, int[] neighbor, int[] slotEdge) {
+        heap.clear();
+        pushEdges(seed, seed, heap, shared, edges, start, neighbor, slotEdge);
+        long operations = 0;
+
+        while (!heap.isEmpty()) {
+            // Heap keys are (weight, edge index), the same total order the Borůvka phase uses
+            int edge = (int) heap.poll();
+            int target = shared.owner.get(edgeSource[edge]) == seed ? edgeDestination[edge] : edgeSource[edge];
+            operations++;
+
+            int owner = shared.owner.get(target);
+            if (owner == seed) continue;
+            if (owner == UNOWNED && shared.owner.compareAndSet(target, UNOWNED, seed)) {
+                shared.taken.set(edge, 1);
+                pushEdges(target, seed, heap, shared, edges, start, neighbor, slotEdge);
+                continue;
+            }
+
+            // Collision: the edge joins this tree to another one
+            owner = shared.owner.get(target);
+            shared.taken.set(edge, 1);
+            shared.trees.union(seed, owner);
+            break;
+        }
+        shared.operations.add(operations);
+    }
+
+    private void pushEdges(int vertex, int tree, LongHeap heap, Shared shared, Edge[] edges,
+                           int[] start, int[] neighbor, int[] slotEdge) {
+        for (int slot = start[vertex]; slot < start[vertex + 1]; slot++) {
+            if (shared.owner.get(neighbor[slot]) != tree) {
+                heap.add(((long) edges[slotEdge[slot]].getWeight() << 32) | slotEdge[slot]);
+            }
+        }
+        shared.operations.add(start[vertex + 1] - start[vertex]);
+    }
+
+    private void boruvka(Shared shared, int n, Edge[] edges, int[] edgeSource, int[] edgeDestination) {
+        int[] component = new int[n];
+        AtomicLongArray best = new AtomicLongArray(n);
+
+        while (true) {
+            IntStream.range(0, n).parallel().forEach(v ->
+                    component[v] = shared.trees.find(shared.owner.get(v)));
+            for (int i = 0; i < n; i++) {
+                best.set(i, Long.MAX_VALUE);
+            }
+
+            // Lightest edge leaving every component, keyed by (weight, edge index)
+            IntStream.range(0, edges.length).parallel().forEach(e -> {
+                int a = component[edgeSource[e]];
+                int b = component[edgeDestination[e]];
+                if (a == b) return;
+                long key = ((long) edges[e].getWeight() << 32) | e;
+                minimize(best, a, key);
+                minimize(best, b, key);
+            });
+            shared.operations.add(edges.length);
+
+            boolean merged = false;
+            for (int c = 0; c < n; c++) {
+                long key = best.get(c);
+                if (key == Long.MAX_VALUE) continue;
+                int e = (int) key;
+                if (shared.trees.union(component[edgeSource[e]], component[edgeDestination[e]])) {
+                    shared.taken.set(e, 1);
+                    merged = true;
+                }
+            }
+            if (!merged) return;
+        }
+    }
+
+    private static void minimize(AtomicLongArray values, int index, long value) {
+        long current;
+        while (value < (current = values.get(index))) {
+            if (values.compareAndSet(index, current, value)) return;
+        }
+    }
+
+    // State shared by all workers of one run
+    private static class Shared {
+        final AtomicIntegerArray owner;
+        final AtomicIntegerArray taken;
+        final ConcurrentUnionFind trees;
+        final LongAdder operations = new LongAdder();
+
+        Shared(int vertexCount, int edgeCount) {
+            owner = new AtomicIntegerArray(vertexCount);
+            for (int i = 0; i < vertexCount; i++) {
+                owner.set(i, UNOWNED);
+            }
+            taken = new AtomicIntegerArray(edgeCount);
+            trees = new ConcurrentUnionFind(vertexCount);
+        }
+    }
+
+    // Binary min-heap of packed long keys
+    private static class LongHeap {
+        private long[] data = new long[64];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void add(long value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (data[parent] <= value) break;
+                data[i] = data[parent];
+                i = parent;
+            }
+            data[i] = value;
+        }
+
+        long poll() {
+            long result = data[0];
+            long last = data[--size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && data[child + 1] < data[child]) child++;
+                if (data[child] >= last) break;
+                data[i] = data[child];
+                i = child;
+            }
+            data[i] = last;
+            return result;
+        }
+    }
+}
@@ -5,14 +5,20 @@ import com.transportation.model.Edge;
 import com.transportation.model.MSTResult;
 import java.util.*;
 
-public class PrimAlgorithm {
+public class PrimAlgorithm implements MSTAlgorithm {
 
+    @Override
+    public String getName() {
+        return "Prim";
+    }
+
+    @Override
     public MSTResult findMST(Graph graph) {
         long startTime = System.nanoTime();
         int operations = 0;
 
         if (graph.getVertexCount() == 0) {
-            return new MSTResult("Prim", Collections.emptyList(), 0, 0, 0, 0, 0);
+            return new MSTResult("Prim", Collections.emptyList(), 0, 0, 0, 0, 0, graph.getVersion());
         }
 
         // Check if graph is connected
@@ -20,7 +26,7 @@ public class PrimAlgorithm {
             long endTime = System.nanoTime();
             return new MSTResult("Prim", Collections.emptyList(), Integer.MAX_VALUE,
                     (endTime - startTime) / 1_000_000, operations,
-                    graph.getVertexCount(), graph.getEdgeCount());
+                    graph.getVertexCount(), graph.getEdgeCount(), graph.getVersion());
         }
 
         List<Edge> mstEdges = new ArrayList<>();
@@ -62,7 +68,7 @@ public class PrimAlgorithm {
         int totalCost = mstEdges.stream().mapToInt(Edge::getWeight).sum();
 
         return new MSTResult("Prim", mstEdges, totalCost, executionTimeMs,
-                operations, graph.getVertexCount(), graph.getEdgeCount());
+                operations, graph.getVertexCount(), graph.getEdgeCount(), graph.getVersion());
     }
 
     private String findUnvisitedVertex(Edge edge, Set<String> visited) {
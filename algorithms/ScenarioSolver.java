@@ -0,0 +1,348 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import com.transportation.model.WeightOverlay;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Solves many weight scenarios of one base network from its MST
+ *
+ * The base MST T is computed once. For a scenario only changed edges and
+ * the non-tree edges that could replace an increased tree edge can differ
+ * from T: an unchanged non-tree edge whose tree path avoids every
+ * increased tree edge is still the heaviest edge on its cycle. So:
+ * - no increased tree edge, no cheaper non-tree edge: T with the new weights
+ * - one cheaper non-tree edge: swap it against the heaviest edge on its tree path
+ * - otherwise: Kruskal over T, the changed edges and the non-tree edges
+ *   joining different pieces of T minus the increased tree edges
+ *
+ * A non-tree edge joins different pieces only if one of its endpoints lies
+ * below an increased tree edge, so non-tree edges are indexed by the
+ * preorder position of their endpoints and only the subtrees under the
+ * increased edges are looked up. That costs O(V) plus the non-tree edges
+ * touching those subtrees, which degrades to O(E) when an increased edge
+ * sits near the root.
+ */
+public class ScenarioSolver {
+    private static final String NAME = "ScenarioSolver";
+
+    private final Graph base;
+    private final Edge[] edges;
+    private final int[] source;
+    private final int[] destination;
+    private final Map<String, Integer> edgeIndex;
+    private final boolean[] inTree;
+    private final int[] treeEdges;
+
+    // Base tree rooted at vertex 0
+    private final int[] parent;
+    private final int[] parentEdge;
+    private final int[] depth;
+    private final int[] bfsOrder;
+
+    // Non-tree edges by endpoint, in preorder so every subtree is one range
+    private final int[] preorder;
+    private final int[] subtreeSize;
+    private final int[] nonTreeStart;
+    private final int[] nonTreeEdges;
+
+    public ScenarioSolver(Graph base) {
+        MSTResult baseResult = new KruskalAlgorithm().findMST(base);
+        int n = base.getVertexCount();
+        if (n > 0 && baseResult.getTotalCost() == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Base network " + base.getId() + " must be connected");
+        }
+        this.base = base;
+
+        List<String> vertices = base.getVertices();
+        Map<String, Integer> vertexIndex = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+        edges = base.getEdges().toArray(new Edge[0]);
+        source = new int[edges.length];
+        destination = new int[edges.length];
+        edgeIndex = new HashMap<>(edges.length * 2);
+        for (int e = 0; e < edges.length; e++) {
+            source[e] = vertexIndex.get(edges[e].getSource());
+            destination[e] = vertexIndex.get(edges[e].getDestination());
+            edgeIndex.put(edges[e].getId(), e);
+        }
+
+        inTree = new boolean[edges.length];
+        treeEdges = new int[baseResult.getMstEdgeCount()];
+        List<Edge> mst = baseResult.getMstEdges();
+        for (int i = 0; i < treeEdges.length; i++) {
+            treeEdges[i] = edgeIndex.get(mst.get(i).getId());
+            inTree[treeEdges[i]] = true;
+        }
+
+        parent = new int[n];
+        parentEdge = new int[n];
+        depth = new int[n];
+        bfsOrder = new int[n];
+        rootTree(n);
+
+        preorder = new int[n];
+        subtreeSize = new int[n];
+        numberSubtrees(n);
+        nonTreeStart = new int[n + 1];
+        nonTreeEdges = new int[2 * (edges.length - treeEdges.length)];
+        indexNonTreeEdges(n);
+    }
+
+    // BFS over the tree edges from vertex 0
+    private void rootTree(int n) {
+        if (n == 0) return;
+        int[] start = new int[n + 1];
+        for (int e : treeEdges) {
+            start[source[e] + 1]++;
+            start[destination[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] fill = Arrays.copyOf(start, n);
+        int[] incident = new int[2 * treeEdges.length];
+        for (int e : treeEdges) {
+            incident[fill[source[e]]++] = e;
+            incident[fill[destination[e]]++] = e;
+        }
+
+        boolean[] visited = new boolean[n];
+        parent[0] = -1;
+        parentEdge[0] = -1;
+        visited[0] = true;
+        int head = 0;
+        int tail = 0;
+        bfsOrder[tail++] = 0;
+        while (head < tail) {
+            int v = bfsOrder[head++];
+            for (int i = start[v]; i < start[v + 1]; i++) {
+                int e = incident[i];
+                int next = source[e] == v ? destination[e] : source[e];
+                if (!visited[next]) {
+                    visited[next] = true;
+                    parent[next] = v;
+                    parentEdge[next] = e;
+                    depth[next] = depth[v] + 1;
+                    bfsOrder[tail++] = next;
+                }
+            }
+        }
+    }
+
+    // Preorder numbers from subtree sizes: each child's range starts where its previous sibling's ends
+    private void numberSubtrees(int n) {
+        for (int i = n - 1; i >= 0; i--) {
+            int v = bfsOrder[i];
+            subtreeSize[v]++;
+            if (parent[v] >= 0) subtreeSize[parent[v]] += subtreeSize[v];
+        }
+        int[] nextChild = new int[n];
+        for (int v : bfsOrder) {
+            if (parent[v] >= 0) {
+                preorder[v] = nextChild[parent[v]];
+                nextChild[parent[v]] += subtreeSize[v];
+            }
+            nextChild[v] = preorder[v] + 1;
+        }
+    }
+
+    private void indexNonTreeEdges(int n) {
+        for (int e = 0; e < edges.length; e++) {
+            if (inTree[e]) continue;
+            nonTreeStart[preorder[source[e]] + 1]++;
+            nonTreeStart[preorder[destination[e]] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            nonTreeStart[i + 1] += nonTreeStart[i];
+        }
+        int[] fill = Arrays.copyOf(nonTreeStart, n);
+        for (int e = 0; e < edges.length; e++) {
+            if (inTree[e]) continue;
+            nonTreeEdges[fill[preorder[source[e]]]++] = e;
+            nonTreeEdges[fill[preorder[destination[e]]]++] = e;
+        }
+    }
+
+    /**
+     * Solves one scenario over this solver's base graph
+     */
+    public MSTResult solve(WeightOverlay overlay) {
+        if (overlay.getBase() != base) {
+            throw new IllegalArgumentException("Overlay " + overlay.getName() + " is not over base " + base.getId());
+        }
+        long startTime = System.nanoTime();
+        int operations = 0;
+        int n = base.getVertexCount();
+        if (n == 0) {
+            return new MSTResult(NAME, Collections.emptyList(), 0, 0, 0, 0, 0, base.getVersion());
+        }
+
+        // Sort the changes by what they can do to the tree
+        Map<Integer, Integer> changed = new HashMap<>();
+        List<Integer> increasedTree = new ArrayList<>();
+        List<Integer> cheaperNonTree = new ArrayList<>();
+        for (Map.Entry<String, Integer> change : overlay.getChangedWeights().entrySet()) {
+            int e = edgeIndex.get(change.getKey());
+            int weight = change.getValue();
+            changed.put(e, weight);
+            if (inTree[e] && weight > edges[e].getWeight()) {
+                increasedTree.add(e);
+            } else if (!inTree[e] && weight < edges[e].getWeight()) {
+                cheaperNonTree.add(e);
+            }
+            operations++;
+        }
+
+        List<Integer> tree;
+        if (increasedTree.isEmpty() && cheaperNonTree.isEmpty()) {
+            tree = treeList(-1, -1);
+        } else if (increasedTree.isEmpty() && cheaperNonTree.size() == 1) {
+            int swapIn = cheaperNonTree.get(0);
+            int swapOut = heaviestOnTreePath(source[swapIn], destination[swapIn], changed);
+            operations += depth[source[swapIn]] + depth[destination[swapIn]];
+            boolean swap = key(swapOut, changed) > key(swapIn, changed);
+            tree = swap ? treeList(swapOut, swapIn) : treeList(-1, -1);
+        } else {
+            List<Integer> candidates = candidates(increasedTree, changed);
+            operations += candidates.size() + n;
+            tree = kruskal(candidates, changed, n);
+        }
+
+        List<Edge> mstEdges = new ArrayList<>(tree.size());
+        long cost = 0;
+        for (int e : tree) {
+            Edge edge = overlay.apply(edges[e]);
+            mstEdges.add(edge);
+            cost += edge.getWeight();
+        }
+
+        long executionTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+        return new MSTResult(NAME, mstEdges, (int) Math.min(cost, Integer.MAX_VALUE), executionTimeMs,
+                operations + tree.size(), n, base.getEdgeCount(), base.getVersion());
+    }
+
+    /**
+     * Solves every scenario in parallel
+     * @return results keyed by scenario name, in input order
+     */
+    public Map<String, MSTResult> solveAll(List<WeightOverlay> overlays) {
+        Set<String> names = new HashSet<>();
+        for (WeightOverlay overlay : overlays) {
+            if (!names.add(overlay.getName())) {
+                throw new IllegalArgumentException("Duplicate scenario name " + overlay.getName());
+            }
+        }
+
+        MSTResult[] results = new MSTResult[overlays.size()];
+        IntStream.range(0, overlays.size()).parallel().forEach(i -> results[i] = solve(overlays.get(i)));
+
+        Map<String, MSTResult> byName = new LinkedHashMap<>();
+        for (int i = 0; i < results.length; i++) {
+            byName.put(overlays.get(i).getName(), results[i]);
+        }
+        return byName;
+    }
+
+    private List<Integer> treeList(int remove, int add) {
+        List<Integer> tree = new ArrayList<>(treeEdges.length);
+        for (int e : treeEdges) {
+            tree.add(e == remove ? add : e);
+        }
+        return tree;
+    }
+
+    // Scenario weight with the edge index as tie-breaker
+    private long key(int e, Map<Integer, Integer> changed) {
+        return ((long) changed.getOrDefault(e, edges[e].getWeight()) << 32) | e;
+    }
+
+    private int heaviestOnTreePath(int u, int v, Map<Integer, Integer> changed) {
+        int heaviest = -1;
+        while (u != v) {
+            // Always step up from the deeper endpoint
+            if (depth[u] < depth[v]) {
+                int tmp = u;
+                u = v;
+                v = tmp;
+            }
+            int e = parentEdge[u];
+            if (heaviest < 0 || key(e, changed) > key(heaviest, changed)) heaviest = e;
+            u = parent[u];
+        }
+        return heaviest;
+    }
+
+    // Tree edges, changed edges and non-tree edges across the pieces left by removing increased tree edges
+    private List<Integer> candidates(List<Integer> increasedTree, Map<Integer, Integer> changed) {
+        int n = base.getVertexCount();
+        boolean[] cutBelow = new boolean[n];
+        int[] cutRoots = new int[increasedTree.size()];
+        for (int i = 0; i < cutRoots.length; i++) {
+            int e = increasedTree.get(i);
+            cutRoots[i] = parentEdge[source[e]] == e ? source[e] : destination[e];
+            cutBelow[cutRoots[i]] = true;
+        }
+        int[] piece = new int[n];
+        int pieces = 0;
+        for (int v : bfsOrder) {
+            piece[v] = parent[v] < 0 || cutBelow[v] ? pieces++ : piece[parent[v]];
+        }
+
+        List<Integer> candidates = new ArrayList<>(treeEdges.length + changed.size());
+        for (int e : treeEdges) {
+            candidates.add(e);
+        }
+        Set<Integer> added = new HashSet<>();
+        for (int e : changed.keySet()) {
+            if (!inTree[e] && added.add(e)) candidates.add(e);
+        }
+
+        // Subtree ranges are nested or disjoint, so sorting by start leaves only the outermost ones
+        long[] ranges = new long[cutRoots.length];
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i] = ((long) preorder[cutRoots[i]] << 32) | cutRoots[i];
+        }
+        Arrays.sort(ranges);
+        int covered = 0;
+        for (long range : ranges) {
+            int v = (int) range;
+            int from = Math.max(preorder[v], covered);
+            int to = preorder[v] + subtreeSize[v];
+            for (int i = nonTreeStart[from]; i < nonTreeStart[Math.max(from, to)]; i++) {
+                int e = nonTreeEdges[i];
+                if (piece[source[e]] != piece[destination[e]] && added.add(e)) candidates.add(e);
+            }
+            covered = Math.max(covered, to);
+        }
+        return candidates;
+    }
+
+    private List<Integer> kruskal(List<Integer> candidates, Map<Integer, Integer> changed, int n) {
+        long[] keys = new long[candidates.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key(candidates.get(i), changed);
+        }
+        Arrays.sort(keys);
+
+        IntUnionFind uf = new IntUnionFind(n);
+        List<Integer> tree = new ArrayList<>(n - 1);
+        for (long key : keys) {
+            int e = (int) key;
+            if (uf.union(source[e], destination[e])) {
+                tree.add(e);
+                if (tree.size() == n - 1) break;
+            }
+        }
+        return tree;
+    }
+
+    public Graph getBase() {
+        return base;
+    }
+}
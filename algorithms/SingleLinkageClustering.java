@@ -0,0 +1,131 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import java.util.*;
+
+/**
+ * Single-linkage clustering of districts into service zones
+ *
+ * The Kruskal merge order is recorded once as a dendrogram: merge i joins
+ * two clusters at height mergeWeight(i), in ascending order. Cutting the
+ * dendrogram at k clusters or at a weight threshold replays the first merges
+ * with an int union-find, so each query is O(V) and never reruns Kruskal.
+ * Cluster labels are int arrays indexed like getVertices().
+ */
+public class SingleLinkageClustering {
+    private final List<String> vertices;
+    private final int[] mergeSource;
+    private final int[] mergeDestination;
+    private final int[] mergeWeight;
+
+    public SingleLinkageClustering(Graph graph) {
+        vertices = graph.getVertices();
+        Map<String, Integer> vertexIndex = new HashMap<>(vertices.size() * 2);
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        // Kruskal already adds tree edges in merge order
+        MSTResult mst = new KruskalAlgorithm().findMST(graph);
+        List<Edge> merges = mst.getMstEdges();
+        if (merges.isEmpty() && vertices.size() > 1) {
+            // Disconnected network: merge order of the spanning forest
+            merges = new ArrayList<>(new SpanningForestAlgorithm().findSpanningForest(graph).getMstEdges());
+            merges.sort(Comparator.comparingInt(Edge::getWeight));
+        }
+
+        mergeSource = new int[merges.size()];
+        mergeDestination = new int[merges.size()];
+        mergeWeight = new int[merges.size()];
+        for (int i = 0; i < merges.size(); i++) {
+            Edge edge = merges.get(i);
+            mergeSource[i] = vertexIndex.get(edge.getSource());
+            mergeDestination[i] = vertexIndex.get(edge.getDestination());
+            mergeWeight[i] = edge.getWeight();
+        }
+    }
+
+    public List<String> getVertices() {
+        return Collections.unmodifiableList(vertices);
+    }
+
+    public int getMergeCount() {
+        return mergeWeight.length;
+    }
+
+    /**
+     * Gets the height of the i-th merge of the dendrogram
+     */
+    public int getMergeWeight(int i) {
+        return mergeWeight[i];
+    }
+
+    /**
+     * Gets the fewest clusters possible, i.e. the number of connected components
+     */
+    public int getMinimumClusterCount() {
+        return vertices.size() - mergeWeight.length;
+    }
+
+    /**
+     * Partitions the vertices into exactly k clusters
+     * @return cluster label in [0, k) for every vertex index
+     */
+    public int[] clustersAt(int k) {
+        if (k < getMinimumClusterCount() || k > vertices.size() || k < 1) {
+            throw new IllegalArgumentException("Cluster count must be between " + getMinimumClusterCount()
+                    + " and " + vertices.size() + ", got " + k);
+        }
+        return labelsAfter(vertices.size() - k);
+    }
+
+    /**
+     * Partitions the vertices by joining every pair linked through edges of weight at most threshold
+     * @return cluster label for every vertex index
+     */
+    public int[] clustersAtThreshold(int threshold) {
+        return labelsAfter(mergesUpTo(threshold));
+    }
+
+    public int getClusterCountAtThreshold(int threshold) {
+        return vertices.size() - mergesUpTo(threshold);
+    }
+
+    // Number of merges with weight <= threshold
+    private int mergesUpTo(int threshold) {
+        int low = 0;
+        int high = mergeWeight.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (mergeWeight[mid] <= threshold) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int[] labelsAfter(int mergeCount) {
+        IntUnionFind uf = new IntUnionFind(vertices.size());
+        for (int i = 0; i < mergeCount; i++) {
+            uf.union(mergeSource[i], mergeDestination[i]);
+        }
+
+        // Number clusters in order of first appearance
+        int[] labels = new int[vertices.size()];
+        int[] rootLabel = new int[vertices.size()];
+        Arrays.fill(rootLabel, -1);
+        int clusters = 0;
+        for (int i = 0; i < labels.length; i++) {
+            int root = uf.find(i);
+            if (rootLabel[root] == -1) {
+                rootLabel[root] = clusters++;
+            }
+            labels[i] = rootLabel[root];
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,84 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import com.transportation.model.SpanningForestResult;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Computes a minimum spanning forest for disconnected networks
+ * Vertices are labelled by component with a union-find pass over the edges,
+ * the edges are then split by component in a single pass and each
+ * component's tree is solved with Kruskal in parallel.
+ */
+public class SpanningForestAlgorithm {
+
+    public SpanningForestResult findSpanningForest(Graph graph) {
+        long startTime = System.nanoTime();
+        List<String> vertices = graph.getVertices();
+        List<Edge> edges = graph.getEdges();
+        int operations = 0;
+
+        Map<String, Integer> vertexIndex = new HashMap<>(vertices.size() * 2);
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        // Label components
+        IntUnionFind uf = new IntUnionFind(vertices.size());
+        for (Edge edge : edges) {
+            uf.union(vertexIndex.get(edge.getSource()), vertexIndex.get(edge.getDestination()));
+            operations++;
+        }
+
+        int[] componentOf = new int[vertices.size()];
+        Map<Integer, Integer> componentByRoot = new HashMap<>();
+        List<List<String>> componentVertices = new ArrayList<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            int root = uf.find(i);
+            Integer component = componentByRoot.get(root);
+            if (component == null) {
+                component = componentVertices.size();
+                componentByRoot.put(root, component);
+                componentVertices.add(new ArrayList<>());
+            }
+            componentOf[i] = component;
+            componentVertices.get(component).add(vertices.get(i));
+            operations++;
+        }
+
+        // Split edges by component in one pass
+        List<List<Edge>> componentEdges = new ArrayList<>(componentVertices.size());
+        for (int i = 0; i < componentVertices.size(); i++) {
+            componentEdges.add(new ArrayList<>());
+        }
+        for (Edge edge : edges) {
+            componentEdges.get(componentOf[vertexIndex.get(edge.getSource())]).add(edge);
+        }
+
+        // Solve components independently
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        List<MSTResult> componentResults = IntStream.range(0, componentVertices.size())
+                .parallel()
+                .mapToObj(i -> kruskal.findMST(Graph.createGraph(
+                        graph.getId() + "_component_" + i, componentVertices.get(i), componentEdges.get(i))))
+                .collect(Collectors.toList());
+
+        List<Edge> forestEdges = new ArrayList<>();
+        long forestCost = 0;
+        for (MSTResult result : componentResults) {
+            forestEdges.addAll(result.getMstEdges());
+            for (Edge edge : result.getMstEdges()) {
+                forestCost += edge.getWeight();
+            }
+            operations += result.getOperationsCount();
+        }
+
+        long executionTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+        return new SpanningForestResult("SpanningForest", forestEdges, forestCost, componentResults,
+                executionTimeMs, operations, graph.getVertexCount(), graph.getEdgeCount(), graph.getVersion());
+    }
+}
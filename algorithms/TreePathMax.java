@@ -0,0 +1,151 @@
+package com.transportation.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Answers maximum-edge-on-path queries over a fixed forest of int vertices
+ * using binary lifting: O(V log V) to build, O(log V) per query.
+ *
+ * Edge keys are longs so callers can break weight ties deterministically,
+ * e.g. by packing (weight << 32 | edgeIndex).
+ */
+final class TreePathMax {
+    private final int[] component;
+    private final int[] depth;
+    private final int[][] up;
+    private final long[][] max;
+
+    TreePathMax(int vertexCount, int[] sources, int[] destinations, long[] keys, int edgeCount) {
+        // Adjacency in compressed form
+        int[] start = new int[vertexCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            start[sources[i] + 1]++;
+            start[destinations[i] + 1]++;
+        }
+        for (int i = 0; i < vertexCount; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] fill = start.clone();
+        int[] neighbor = new int[2 * edgeCount];
+        long[] neighborKey = new long[2 * edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            neighbor[fill[sources[i]]] = destinations[i];
+            neighborKey[fill[sources[i]]++] = keys[i];
+            neighbor[fill[destinations[i]]] = sources[i];
+            neighborKey[fill[destinations[i]]++] = keys[i];
+        }
+
+        int levels = Math.max(1, 32 - Integer.numberOfLeadingZeros(vertexCount));
+        component = new int[vertexCount];
+        depth = new int[vertexCount];
+        up = new int[levels][vertexCount];
+        max = new long[levels][vertexCount];
+
+        // Root every tree with an iterative BFS
+        Arrays.fill(component, -1);
+        int[] queue = new int[vertexCount];
+        for (int root = 0; root < vertexCount; root++) {
+            if (component[root] != -1) continue;
+            component[root] = root;
+            up[0][root] = root;
+            max[0][root] = Long.MIN_VALUE;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                int current = queue[head++];
+                for (int i = start[current]; i < start[current + 1]; i++) {
+                    int next = neighbor[i];
+                    if (component[next] == -1) {
+                        component[next] = root;
+                        depth[next] = depth[current] + 1;
+                        up[0][next] = current;
+                        max[0][next] = neighborKey[i];
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+
+        for (int k = 1; k < levels; k++) {
+            for (int x = 0; x < vertexCount; x++) {
+                int mid = up[k - 1][x];
+                up[k][x] = up[k - 1][mid];
+                max[k][x] = Math.max(max[k - 1][x], max[k - 1][mid]);
+            }
+        }
+    }
+
+    int depth(int x) {
+        return depth[x];
+    }
+
+    /**
+     * Gets the parent of x in its rooted tree (x itself for a root)
+     */
+    int parent(int x) {
+        return up[0][x];
+    }
+
+    /**
+     * Gets the lowest common ancestor of two connected vertices
+     */
+    int lca(int u, int v) {
+        if (depth[u] < depth[v]) {
+            int tmp = u;
+            u = v;
+            v = tmp;
+        }
+
+        int diff = depth[u] - depth[v];
+        for (int k = 0; diff > 0; k++, diff >>= 1) {
+            if ((diff & 1) != 0) {
+                u = up[k][u];
+            }
+        }
+        if (u == v) return u;
+
+        for (int k = up.length - 1; k >= 0; k--) {
+            if (up[k][u] != up[k][v]) {
+                u = up[k][u];
+                v = up[k][v];
+            }
+        }
+        return up[0][u];
+    }
+
+    boolean connected(int u, int v) {
+        return component[u] == component[v];
+    }
+
+    /**
+     * Gets the largest key on the forest path between u and v
+     * (Long.MIN_VALUE when u == v, u and v must be connected)
+     */
+    long pathMax(int u, int v) {
+        long result = Long.MIN_VALUE;
+        if (depth[u] < depth[v]) {
+            int tmp = u;
+            u = v;
+            v = tmp;
+        }
+
+        int diff = depth[u] - depth[v];
+        for (int k = 0; diff > 0; k++, diff >>= 1) {
+            if ((diff & 1) != 0) {
+                result = Math.max(result, max[k][u]);
+                u = up[k][u];
+            }
+        }
+        if (u == v) return result;
+
+        for (int k = up.length - 1; k >= 0; k--) {
+            if (up[k][u] != up[k][v]) {
+                result = Math.max(result, Math.max(max[k][u], max[k][v]));
+                u = up[k][u];
+                v = up[k][v];
+            }
+        }
+        return Math.max(result, Math.max(max[0][u], max[0][v]));
+    }
+}
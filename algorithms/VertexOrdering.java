@@ -0,0 +1,137 @@
+package com.transportation.algorithms;
+
+import com.transportation.model.CompactGraph;
+import com.transportation.model.Graph;
+import java.util.*;
+
+/**
+ * Vertex numberings for CompactGraph that keep neighbours close in memory
+ *
+ * Imported and generated graphs number vertices in hash order, so adjacent
+ * vertices land anywhere in the id range. BFS gives neighbours consecutive
+ * ids, Reverse Cuthill-McKee additionally narrows the bandwidth by visiting
+ * low-degree vertices first, and DEGREE packs the busiest hubs together.
+ */
+public enum VertexOrdering {
+    NATURAL {
+        @Override
+        public int[] order(CompactGraph graph) {
+            int[] order = new int[graph.getVertexCount()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            return order;
+        }
+    },
+    BFS {
+        @Override
+        public int[] order(CompactGraph graph) {
+            return breadthFirst(graph, false);
+        }
+    },
+    RCM {
+        @Override
+        public int[] order(CompactGraph graph) {
+            int[] order = breadthFirst(graph, true);
+            for (int i = 0, j = order.length - 1; i < j; i++, j--) {
+                int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+            return order;
+        }
+    },
+    DEGREE {
+        @Override
+        public int[] order(CompactGraph graph) {
+            // Highest degree first, ties by current id
+            int n = graph.getVertexCount();
+            long[] keys = new long[n];
+            for (int v = 0; v < n; v++) {
+                keys[v] = ((long) (Integer.MAX_VALUE - graph.getDegree(v)) << 32) | v;
+            }
+            Arrays.sort(keys);
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = (int) keys[i];
+            }
+            return order;
+        }
+    };
+
+    /**
+     * Gets the permutation, entry i being the current id of the vertex that becomes i
+     */
+    public abstract int[] order(CompactGraph graph);
+
+    /**
+     * Builds the compact form of graph numbered in this order
+     */
+    public CompactGraph apply(Graph graph) {
+        CompactGraph natural = CompactGraph.of(graph);
+        return this == NATURAL ? natural : natural.reorder(order(natural));
+    }
+
+    // BFS over every component; Cuthill-McKee starts at minimum degree and visits neighbours by degree
+    private static int[] breadthFirst(CompactGraph graph, boolean cuthillMcKee) {
+        int n = graph.getVertexCount();
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int[] starts = NATURAL.order(graph);
+        if (cuthillMcKee) {
+            starts = byDegree(graph, starts, n);
+        }
+
+        int tail = 0;
+        long[] row = new long[0];
+        for (int start : starts) {
+            if (visited[start]) continue;
+            visited[start] = true;
+            int head = tail;
+            order[tail++] = start;
+            while (head < tail) {
+                int v = order[head++];
+                int first = graph.getFirstSlot(v);
+                int degree = graph.getDegree(v);
+                if (!cuthillMcKee) {
+                    for (int slot = first; slot < first + degree; slot++) {
+                        int next = graph.getTarget(slot);
+                        if (!visited[next]) {
+                            visited[next] = true;
+                            order[tail++] = next;
+                        }
+                    }
+                    continue;
+                }
+
+                int count = 0;
+                if (row.length < degree) row = new long[Math.max(degree, 2 * row.length)];
+                for (int slot = first; slot < first + degree; slot++) {
+                    int next = graph.getTarget(slot);
+                    if (!visited[next]) {
+                        visited[next] = true;
+                        row[count++] = ((long) graph.getDegree(next) << 32) | next;
+                    }
+                }
+                Arrays.sort(row, 0, count);
+                for (int i = 0; i < count; i++) {
+                    order[tail++] = (int) row[i];
+                }
+            }
+        }
+        return order;
+    }
+
+    private static int[] byDegree(CompactGraph graph, int[] vertices, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) graph.getDegree(vertices[i]) << 32) | vertices[i];
+        }
+        Arrays.sort(keys);
+        int[] sorted = new int[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = (int) keys[i];
+        }
+        return sorted;
+    }
+}
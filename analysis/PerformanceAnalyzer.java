@@ -1,7 +1,23 @@
 package com.transportation.analysis;
 
+import com.transportation.algorithms.CompactPrimAlgorithm;
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.MSTAlgorithm;
+import com.transportation.algorithms.MSTCostEstimator;
+import com.transportation.algorithms.MSTSolver;
+import com.transportation.algorithms.ScenarioSolver;
+import com.transportation.algorithms.VertexOrdering;
+import com.transportation.model.CompactGraph;
+import com.transportation.model.ConcurrentGraphBuilder;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
 import com.transportation.model.MSTResult;
+import com.transportation.model.WeightOverlay;
+import com.transportation.utils.GraphBinaryCodec;
+import java.io.File;
+import java.io.IOException;
 import java.util.*;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 public class PerformanceAnalyzer {
@@ -118,6 +134,332 @@ public class PerformanceAnalyzer {
                 consistentCount, primResults.size());
     }
 
+    /**
+     * Runs every algorithm on every graph and reports average times per category
+     * Each run gets a fresh copy of the graph, so cached edge orders built by
+     * one algorithm do not flatter the next one. Costs are checked against the
+     * first algorithm in the list.
+     */
+    public static void compareAlgorithms(List<Graph> graphs, List<MSTAlgorithm> algorithms) {
+        System.out.println("\n=== ALGORITHM COMPARISON ===");
+
+        Map<String, List<Graph>> byCategory = new TreeMap<>();
+        for (Graph graph : graphs) {
+            byCategory.computeIfAbsent(getGraphCategory(graph.getId()), k -> new ArrayList<>()).add(graph);
+        }
+
+        System.out.printf("%-12s %6s %10s %10s", "Category", "Graphs", "Avg V", "Avg E");
+        for (MSTAlgorithm algorithm : algorithms) {
+            System.out.printf(" %12s", algorithm.getName() + " ms");
+        }
+        System.out.printf(" %10s\n", "Mismatches");
+
+        for (Map.Entry<String, List<Graph>> entry : byCategory.entrySet()) {
+            List<Graph> categoryGraphs = entry.getValue();
+            double[] totalNanos = new double[algorithms.size()];
+            int mismatches = 0;
+
+            for (Graph graph : categoryGraphs) {
+                int referenceCost = 0;
+                for (int i = 0; i < algorithms.size(); i++) {
+                    Graph copy = Graph.createGraph(graph.getId(), graph.getVertices(), graph.getEdges());
+
+                    long start = System.nanoTime();
+                    MSTResult result = algorithms.get(i).findMST(copy);
+                    totalNanos[i] += System.nanoTime() - start;
+
+                    if (i == 0) {
+                        referenceCost = result.getTotalCost();
+                    } else if (result.getTotalCost() != referenceCost) {
+                        mismatches++;
+                    }
+                }
+            }
+
+            System.out.printf("%-12s %6d %10.0f %10.0f", entry.getKey(), categoryGraphs.size(),
+                    categoryGraphs.stream().mapToInt(Graph::getVertexCount).average().orElse(0),
+                    categoryGraphs.stream().mapToInt(Graph::getEdgeCount).average().orElse(0));
+            for (double nanos : totalNanos) {
+                System.out.printf(" %12.3f", nanos / categoryGraphs.size() / 1_000_000.0);
+            }
+            System.out.printf(" %10d\n", mismatches);
+        }
+    }
+
+    /**
+     * Validates sampled MST cost estimates against exact Kruskal costs
+     */
+    public static void analyzeCostEstimation(List<Graph> graphs, List<MSTResult> kruskalResults,
+                                             double accuracy, double confidence) {
+        System.out.println("\n=== MST COST ESTIMATION ===");
+        System.out.printf("Target accuracy %.0f%%, confidence %.0f%%\n", accuracy * 100, confidence * 100);
+
+        MSTCostEstimator estimator = new MSTCostEstimator(accuracy, confidence);
+        Map<String, List<double[]>> byCategory = new TreeMap<>();
+        for (int i = 0; i < graphs.size(); i++) {
+            Graph graph = graphs.get(i);
+            MSTResult exact = kruskalResults.get(i);
+            if (exact.getTotalCost() == Integer.MAX_VALUE) continue;
+
+            int maxWeight = graph.getEdges().stream().mapToInt(Edge::getWeight).max().orElse(0);
+            MSTCostEstimator.Estimate estimate = estimator.estimate(graph, maxWeight);
+            byCategory.computeIfAbsent(getGraphCategory(graph.getId()), k -> new ArrayList<>())
+                    .add(new double[]{estimate.relativeError(exact.getTotalCost()),
+                            estimate.getExecutionTimeNanos() / 1_000_000.0, exact.getExecutionTimeMs()});
+        }
+
+        System.out.printf("%-12s %6s %10s %10s %14s %14s\n",
+                "Category", "Graphs", "Avg err %", "Max err %", "Estimate ms", "Kruskal ms");
+        for (Map.Entry<String, List<double[]>> entry : byCategory.entrySet()) {
+            List<double[]> rows = entry.getValue();
+            System.out.printf("%-12s %6d %10.2f %10.2f %14.2f %14.2f\n", entry.getKey(), rows.size(),
+                    rows.stream().mapToDouble(r -> r[0]).average().orElse(0) * 100,
+                    rows.stream().mapToDouble(r -> r[0]).max().orElse(0) * 100,
+                    rows.stream().mapToDouble(r -> r[1]).average().orElse(0),
+                    rows.stream().mapToDouble(r -> r[2]).average().orElse(0));
+        }
+    }
+
+    /**
+     * Runs every graph through the auto-tuning solver and reports its picks
+     * Graphs are copied so the solver never benefits from a cached sort order.
+     */
+    public static void analyzeSolverChoices(List<Graph> graphs, MSTSolver solver) {
+        System.out.println("\n=== MST SOLVER CHOICES ===");
+
+        Map<String, Map<String, Integer>> picks = new TreeMap<>();
+        Map<String, List<Double>> millis = new TreeMap<>();
+        for (Graph graph : graphs) {
+            String category = getGraphCategory(graph.getId());
+            Graph copy = Graph.createGraph(graph.getId(), graph.getVertices(), graph.getEdges());
+
+            long start = System.nanoTime();
+            MSTResult result = solver.findMST(copy);
+            millis.computeIfAbsent(category, k -> new ArrayList<>()).add((System.nanoTime() - start) / 1_000_000.0);
+            picks.computeIfAbsent(category, k -> new TreeMap<>()).merge(result.getAlgorithm(), 1, Integer::sum);
+        }
+
+        System.out.printf("%-12s %6s %10s  %s\n", "Category", "Graphs", "Avg ms", "Picks");
+        for (Map.Entry<String, Map<String, Integer>> entry : picks.entrySet()) {
+            List<Double> times = millis.get(entry.getKey());
+            String summary = entry.getValue().entrySet().stream()
+                    .map(pick -> pick.getKey() + " x" + pick.getValue())
+                    .collect(Collectors.joining(", "));
+            System.out.printf("%-12s %6d %10.3f  %s\n", entry.getKey(), times.size(),
+                    times.stream().mapToDouble(Double::doubleValue).average().orElse(0), summary);
+        }
+    }
+
+    /**
+     * Times Prim and connectivity on compact graphs under each vertex ordering
+     * Only the large tiers are measured, where the working set outgrows the
+     * caches; times are the best of a few runs over all those graphs.
+     */
+    public static void analyzeVertexOrdering(List<Graph> graphs) {
+        System.out.println("\n=== VERTEX ORDERING ===");
+        List<Graph> large = graphs.stream()
+                .filter(graph -> getGraphCategory(graph.getId()).contains("large"))
+                .collect(Collectors.toList());
+        if (large.isEmpty()) {
+            System.out.println("No large graphs to measure");
+            return;
+        }
+
+        System.out.printf("%-10s %10s %10s %10s %14s %10s %12s\n", "Ordering", "Build ms", "Avg gap",
+                "Prim ms", "Components ms", "Prim x", "Components x");
+        // Untimed pass so the first ordering is not charged for JIT compilation
+        for (VertexOrdering ordering : VertexOrdering.values()) {
+            CompactGraph compact = ordering.apply(large.get(0));
+            new CompactPrimAlgorithm(ordering).findMST(compact);
+            compact.countComponents();
+        }
+
+        double naturalPrim = 0;
+        double naturalComponents = 0;
+        for (VertexOrdering ordering : VertexOrdering.values()) {
+            CompactPrimAlgorithm prim = new CompactPrimAlgorithm(ordering);
+            double buildNanos = 0;
+            double gap = 0;
+            double primNanos = 0;
+            double componentNanos = 0;
+            for (Graph graph : large) {
+                long start = System.nanoTime();
+                CompactGraph compact = ordering.apply(graph);
+                buildNanos += System.nanoTime() - start;
+                gap += compact.getAverageNeighborGap();
+
+                long bestPrim = Long.MAX_VALUE;
+                long bestComponents = Long.MAX_VALUE;
+                for (int run = 0; run < 3; run++) {
+                    start = System.nanoTime();
+                    prim.findMST(compact);
+                    bestPrim = Math.min(bestPrim, System.nanoTime() - start);
+
+                    start = System.nanoTime();
+                    compact.countComponents();
+                    bestComponents = Math.min(bestComponents, System.nanoTime() - start);
+                }
+                primNanos += bestPrim;
+                componentNanos += bestComponents;
+            }
+
+            if (ordering == VertexOrdering.NATURAL) {
+                naturalPrim = primNanos;
+                naturalComponents = componentNanos;
+            }
+            System.out.printf("%-10s %10.2f %10.1f %10.2f %14.2f %10.2f %12.2f\n", ordering,
+                    buildNanos / 1_000_000.0, gap / large.size(), primNanos / 1_000_000.0,
+                    componentNanos / 1_000_000.0, naturalPrim / primNanos, naturalComponents / componentNanos);
+        }
+    }
+
+    /**
+     * Compares solving what-if scenarios from the base MST with re-running
+     * Kruskal on a full copy of every scenario graph
+     */
+    public static void analyzeScenarios(List<Graph> graphs, int scenarioCount, int changesPerScenario) {
+        System.out.println("\n=== SCENARIO OVERLAYS ===");
+        Graph base = graphs.stream().filter(Graph::isConnected)
+                .max(Comparator.comparingInt(Graph::getEdgeCount)).orElse(null);
+        if (base == null) {
+            System.out.println("No connected graph to use as base");
+            return;
+        }
+
+        Random random = new Random(42);
+        List<Edge> edges = base.getEdges();
+        List<WeightOverlay> overlays = new ArrayList<>();
+        for (int i = 0; i < scenarioCount; i++) {
+            WeightOverlay overlay = new WeightOverlay("scenario_" + i, base);
+            for (int c = 0; c < changesPerScenario; c++) {
+                Edge edge = edges.get(random.nextInt(edges.size()));
+                overlay.setWeight(edge.getSource(), edge.getDestination(), random.nextInt(2 * edge.getWeight() + 1));
+            }
+            overlays.add(overlay);
+        }
+
+        long start = System.nanoTime();
+        ScenarioSolver solver = new ScenarioSolver(base);
+        Map<String, MSTResult> results = solver.solveAll(overlays);
+        double overlayMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        start = System.nanoTime();
+        int mismatches = 0;
+        for (WeightOverlay overlay : overlays) {
+            MSTResult full = new KruskalAlgorithm().findMST(overlay.toGraph());
+            if (full.getTotalCost() != results.get(overlay.getName()).getTotalCost()) mismatches++;
+        }
+        double copyMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.printf("Base %s (%d vertices, %d edges), %d scenarios x %d changes\n", base.getId(),
+                base.getVertexCount(), base.getEdgeCount(), scenarioCount, changesPerScenario);
+        System.out.printf("Overlay solver: %.2f ms, copy + Kruskal: %.2f ms, speedup %.1fx, mismatches %d\n",
+                overlayMs, copyMs, copyMs / overlayMs, mismatches);
+    }
+
+    /**
+     * Merges every graph as a regional feed into one network, ingesting with
+     * a growing number of threads, and compares against a sequential Graph load
+     */
+    public static void analyzeConcurrentIngestion(List<Graph> graphs, int[] threadCounts) throws InterruptedException {
+        System.out.println("\n=== CONCURRENT INGESTION ===");
+        List<String> vertices = new ArrayList<>();
+        List<Edge> edges = new ArrayList<>();
+        for (Graph graph : graphs) {
+            String prefix = graph.getId() + "/";
+            for (String vertex : graph.getVertices()) {
+                vertices.add(prefix + vertex);
+            }
+            for (Edge edge : graph.getEdges()) {
+                edges.add(new Edge(prefix + edge.getSource(), prefix + edge.getDestination(), edge.getWeight()));
+            }
+        }
+
+        long start = System.nanoTime();
+        Graph.createGraph("merged", vertices, edges);
+        double sequentialMs = (System.nanoTime() - start) / 1_000_000.0;
+        System.out.printf("%d vertices, %d edges; sequential Graph load %.2f ms\n",
+                vertices.size(), edges.size(), sequentialMs);
+
+        System.out.printf("%-8s %12s %10s %10s\n", "Threads", "Ingest ms", "Freeze ms", "Speedup");
+        double singleThreadMs = 0;
+        for (int threads : threadCounts) {
+            ConcurrentGraphBuilder builder = new ConcurrentGraphBuilder("merged");
+            start = System.nanoTime();
+            runSplit(threads, vertices.size(), i -> builder.addVertex(vertices.get(i)));
+            runSplit(threads, edges.size(), i -> builder.addEdge(edges.get(i)));
+            double ingestMs = (System.nanoTime() - start) / 1_000_000.0;
+
+            start = System.nanoTime();
+            builder.freeze();
+            double freezeMs = (System.nanoTime() - start) / 1_000_000.0;
+
+            if (singleThreadMs == 0) singleThreadMs = ingestMs;
+            System.out.printf("%-8d %12.2f %10.2f %10.2f\n", threads, ingestMs, freezeMs, singleThreadMs / ingestMs);
+        }
+        System.out.println("Available processors: " + Runtime.getRuntime().availableProcessors());
+    }
+
+    // Runs task over 0..count-1 split into contiguous ranges, one per thread
+    private static void runSplit(int threads, int count, IntConsumer task) throws InterruptedException {
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int from = (int) ((long) count * t / threads);
+            int to = (int) ((long) count * (t + 1) / threads);
+            workers[t] = new Thread(() -> {
+                for (int i = from; i < to; i++) {
+                    task.accept(i);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    /**
+     * Measures how compressed graph files trade CPU for I/O.
+     * Throughput is reported on uncompressed bytes, including graph decoding.
+     */
+    public static void analyzeCompressionThroughput(List<Graph> graphs, String workDir) throws IOException {
+        System.out.println("\n=== COMPRESSION THROUGHPUT ===");
+        new File(workDir).mkdirs();
+
+        String[] fileNames = {"graphs.bin", "graphs.bin.gz", "graphs.bin.deflate"};
+        long rawBytes = 0;
+
+        System.out.printf("%-20s %12s %8s %12s %12s\n", "File", "Bytes", "Ratio", "Write MB/s", "Read MB/s");
+        for (String fileName : fileNames) {
+            String path = workDir + "/" + fileName;
+
+            long start = System.nanoTime();
+            GraphBinaryCodec.writeGraphsToFile(graphs, path);
+            long writeNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Graph> loaded = GraphBinaryCodec.readGraphsFromFile(path);
+            long readNanos = System.nanoTime() - start;
+
+            File file = new File(path);
+            long bytes = file.length();
+            if (rawBytes == 0) rawBytes = bytes;
+            file.delete();
+
+            if (loaded.size() != graphs.size()) {
+                throw new IOException("Round trip through " + fileName + " lost graphs");
+            }
+
+            System.out.printf("%-20s %12d %8.2f %12.1f %12.1f\n", fileName, bytes,
+                    (double) rawBytes / bytes, megabytesPerSecond(rawBytes, writeNanos),
+                    megabytesPerSecond(rawBytes, readNanos));
+        }
+    }
+
+    private static double megabytesPerSecond(long bytes, long nanos) {
+        return nanos == 0 ? 0 : bytes / (1024.0 * 1024.0) / (nanos / 1_000_000_000.0);
+    }
+
     private static String getGraphCategory(String graphId) {
         if (graphId.contains("small")) return "small";
         if (graphId.contains("medium")) return "medium";
@@ -0,0 +1,201 @@
+package com.transportation.model;
+
+import java.util.*;
+
+/**
+ * Immutable compressed-sparse-row copy of an undirected Graph
+ *
+ * Vertices are numbered 0..n-1 and the neighbours of vertex v sit in slots
+ * offsets[v]..offsets[v+1]-1, sorted by neighbour id. Every slot keeps the
+ * original Edge so results computed on ids map straight back to the graph.
+ * The numbering can be permuted with reorder() to improve memory locality.
+ */
+public class CompactGraph {
+    private final String id;
+    private final String[] names;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final Edge[] slotEdges;
+    private final int edgeCount;
+    // Name lookup, built on first use; volatile so concurrent readers see a complete map
+    private volatile Map<String, Integer> index;
+
+    private CompactGraph(String id, String[] names, int[] offsets, int[] targets,
+                         int[] weights, Edge[] slotEdges, int edgeCount) {
+        this.id = id;
+        this.names = names;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.slotEdges = slotEdges;
+        this.edgeCount = edgeCount;
+    }
+
+    /**
+     * Builds the compact form with vertices numbered in getVertices() order
+     */
+    public static CompactGraph of(Graph graph) {
+        List<String> vertices = graph.getVertices();
+        int n = vertices.size();
+        String[] names = vertices.toArray(new String[0]);
+        Map<String, Integer> index = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            index.put(names[i], i);
+        }
+
+        List<Edge> edges = graph.getEdges();
+        int[] offsets = new int[n + 1];
+        for (Edge edge : edges) {
+            offsets[index.get(edge.getSource()) + 1]++;
+            offsets[index.get(edge.getDestination()) + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] fill = Arrays.copyOf(offsets, n);
+        int[] targets = new int[2 * edges.size()];
+        int[] weights = new int[2 * edges.size()];
+        Edge[] slotEdges = new Edge[2 * edges.size()];
+        for (Edge edge : edges) {
+            int u = index.get(edge.getSource());
+            int v = index.get(edge.getDestination());
+            targets[fill[u]] = v;
+            weights[fill[u]] = edge.getWeight();
+            slotEdges[fill[u]++] = edge;
+            targets[fill[v]] = u;
+            weights[fill[v]] = edge.getWeight();
+            slotEdges[fill[v]++] = edge;
+        }
+
+        CompactGraph compact = new CompactGraph(graph.getId(), names, offsets, targets, weights,
+                slotEdges, edges.size());
+        compact.index = index;
+        return compact;
+    }
+
+    /**
+     * Gets a copy whose vertex newId is this graph's vertex order[newId]
+     * @param order a permutation of 0..n-1
+     */
+    public CompactGraph reorder(int[] order) {
+        int n = names.length;
+        if (order.length != n) {
+            throw new IllegalArgumentException("Order must list all " + n + " vertices");
+        }
+        int[] newId = new int[n];
+        Arrays.fill(newId, -1);
+        for (int i = 0; i < n; i++) {
+            if (order[i] < 0 || order[i] >= n || newId[order[i]] != -1) {
+                throw new IllegalArgumentException("Order is not a permutation at position " + i);
+            }
+            newId[order[i]] = i;
+        }
+
+        String[] newNames = new String[n];
+        int[] newOffsets = new int[n + 1];
+        int[] newTargets = new int[targets.length];
+        int[] newWeights = new int[weights.length];
+        Edge[] newSlotEdges = new Edge[slotEdges.length];
+        long[] row = new long[0];
+        for (int v = 0; v < n; v++) {
+            int old = order[v];
+            newNames[v] = names[old];
+            int degree = offsets[old + 1] - offsets[old];
+            newOffsets[v + 1] = newOffsets[v] + degree;
+
+            // Sort the row by new neighbour id, packed with the old slot
+            if (row.length < degree) row = new long[Math.max(degree, 2 * row.length)];
+            for (int i = 0; i < degree; i++) {
+                int slot = offsets[old] + i;
+                row[i] = ((long) newId[targets[slot]] << 32) | slot;
+            }
+            Arrays.sort(row, 0, degree);
+            for (int i = 0; i < degree; i++) {
+                int slot = (int) row[i];
+                newTargets[newOffsets[v] + i] = (int) (row[i] >>> 32);
+                newWeights[newOffsets[v] + i] = weights[slot];
+                newSlotEdges[newOffsets[v] + i] = slotEdges[slot];
+            }
+        }
+        return new CompactGraph(id, newNames, newOffsets, newTargets, newWeights, newSlotEdges, edgeCount);
+    }
+
+    /**
+     * Counts connected components with an array-based BFS
+     */
+    public int countComponents() {
+        int n = names.length;
+        boolean[] visited = new boolean[n];
+        int[] queue = new int[n];
+        int components = 0;
+        for (int start = 0; start < n; start++) {
+            if (visited[start]) continue;
+            components++;
+            visited[start] = true;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            while (head < tail) {
+                int v = queue[head++];
+                for (int slot = offsets[v]; slot < offsets[v + 1]; slot++) {
+                    if (!visited[targets[slot]]) {
+                        visited[targets[slot]] = true;
+                        queue[tail++] = targets[slot];
+                    }
+                }
+            }
+        }
+        return components;
+    }
+
+    public boolean isConnected() {
+        return countComponents() <= 1;
+    }
+
+    /**
+     * Gets the mean |u - v| over all edges, a proxy for how far neighbour accesses jump in memory
+     */
+    public double getAverageNeighborGap() {
+        long total = 0;
+        for (int v = 0; v < names.length; v++) {
+            for (int slot = offsets[v]; slot < offsets[v + 1]; slot++) {
+                total += Math.abs(targets[slot] - v);
+            }
+        }
+        return targets.length == 0 ? 0 : (double) total / targets.length;
+    }
+
+    /**
+     * Gets the id of a vertex name, -1 if absent
+     */
+    public int indexOf(String name) {
+        Map<String, Integer> lookup = index;
+        if (lookup == null) {
+            // Concurrent callers may each build it once; the maps are identical
+            lookup = new HashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                lookup.put(names[i], i);
+            }
+            index = lookup;
+        }
+        return lookup.getOrDefault(name, -1);
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public int getVertexCount() { return names.length; }
+    public int getEdgeCount() { return edgeCount; }
+    public String getVertexName(int vertex) { return names[vertex]; }
+    public int getDegree(int vertex) { return offsets[vertex + 1] - offsets[vertex]; }
+    public int getFirstSlot(int vertex) { return offsets[vertex]; }
+    public int getEndSlot(int vertex) { return offsets[vertex + 1]; }
+    public int getTarget(int slot) { return targets[slot]; }
+    public int getWeight(int slot) { return weights[slot]; }
+    public Edge getEdge(int slot) { return slotEdges[slot]; }
+
+    @Override
+    public String toString() {
+        return String.format("CompactGraph{id='%s', vertices=%d, edges=%d}", id, names.length, edgeCount);
+    }
+}
@@ -0,0 +1,129 @@
+package com.transportation.model;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe accumulator for one graph fed by several ingestion threads
+ *
+ * Vertices, their adjacency and the edge set are ConcurrentHashMaps, so
+ * addVertex and addEdge may be called from any thread without external
+ * locking. An edge is identified by its undirected id; the first insert wins
+ * and later duplicates, whatever their weight, are counted and dropped.
+ *
+ * An addition registers in a striped in-flight counter before checking the
+ * volatile frozen flag; freeze() sets the flag and then waits for registered
+ * additions to drain, so an addition either completes before the freeze or
+ * fails after it. Unlike a shared lock, concurrent additions do not all
+ * update the same word. The frozen Graph gets plain HashMap copies, which
+ * are cheaper to read than the concurrent maps.
+ */
+public class ConcurrentGraphBuilder {
+    private static final int STRIPES = 16;
+    private static final int STRIPE_STRIDE = 16;
+
+    private final String id;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Edge>> adjacency = new ConcurrentHashMap<>();
+    private final Set<Edge> edges = ConcurrentHashMap.newKeySet();
+    private final LongAdder duplicateEdges = new LongAdder();
+    // In-flight additions per stripe, one cache line apart to avoid false sharing
+    private final AtomicIntegerArray inFlight = new AtomicIntegerArray(STRIPES * STRIPE_STRIDE);
+    private volatile boolean frozen;
+
+    public ConcurrentGraphBuilder(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Adds a vertex, ignoring it if already present
+     * @return true if the vertex was new
+     */
+    public boolean addVertex(String vertexId) {
+        if (vertexId == null) {
+            throw new IllegalArgumentException("Vertex id cannot be null");
+        }
+        int stripe = enter();
+        try {
+            checkNotFrozen();
+            return !adjacency.containsKey(vertexId) && adjacency.putIfAbsent(vertexId, new ConcurrentHashMap<>()) == null;
+        } finally {
+            inFlight.decrementAndGet(stripe);
+        }
+    }
+
+    /**
+     * Adds an edge between two existing vertices unless one with the same endpoints exists
+     * @return true if the edge was added, false for a duplicate
+     */
+    public boolean addEdge(Edge edge) {
+        int stripe = enter();
+        try {
+            checkNotFrozen();
+            Map<String, Edge> sourceEdges = adjacency.get(edge.getSource());
+            Map<String, Edge> destinationEdges = adjacency.get(edge.getDestination());
+            if (sourceEdges == null || destinationEdges == null) {
+                throw new IllegalArgumentException("Both vertices must exist in the graph");
+            }
+            if (!edges.add(edge)) { // Edge equality is by undirected id
+                duplicateEdges.increment();
+                return false;
+            }
+            sourceEdges.put(edge.getDestination(), edge);
+            destinationEdges.put(edge.getSource(), edge);
+            return true;
+        } finally {
+            inFlight.decrementAndGet(stripe);
+        }
+    }
+
+    // Registers an addition; the frozen check must come after this
+    private int enter() {
+        int stripe = ((int) Thread.currentThread().getId() & (STRIPES - 1)) * STRIPE_STRIDE;
+        inFlight.incrementAndGet(stripe);
+        return stripe;
+    }
+
+    public boolean containsEdge(String source, String destination) {
+        Map<String, Edge> sourceEdges = adjacency.get(source);
+        return sourceEdges != null && sourceEdges.containsKey(destination);
+    }
+
+    /**
+     * Builds the frozen graph; the builder rejects further additions afterwards
+     * Waits for additions in progress, so it may be called while ingestion threads still run.
+     */
+    public Graph freeze() {
+        synchronized (this) {
+            checkNotFrozen();
+            frozen = true;
+        }
+        // Additions registered before the flag was set may still be running; later ones fail
+        for (int stripe = 0; stripe < STRIPES * STRIPE_STRIDE; stripe += STRIPE_STRIDE) {
+            while (inFlight.get(stripe) != 0) {
+                Thread.yield();
+            }
+        }
+
+        Map<String, Map<String, Edge>> plainAdjacency = new HashMap<>(adjacency.size() * 2);
+        for (Map.Entry<String, ConcurrentHashMap<String, Edge>> entry : adjacency.entrySet()) {
+            plainAdjacency.put(entry.getKey(), new HashMap<>(entry.getValue()));
+        }
+        Set<Edge> plainEdges = new HashSet<>(edges);
+        return new Graph(id, plainAdjacency, plainEdges).freeze();
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("Graph builder " + id + " is already frozen");
+        }
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public int getVertexCount() { return adjacency.size(); }
+    public int getEdgeCount() { return edges.size(); }
+    public long getDuplicateEdgeCount() { return duplicateEdges.sum(); }
+    public boolean isFrozen() { return frozen; }
+}
@@ -12,6 +12,10 @@ public class Graph {
     private final Map<String, Vertex> vertices;
     private final Set<Edge> edges;
     private final boolean directed;
+    // Weight-sorted edges, built by buildSortedEdgeIndex() or freeze() and dropped on mutation
+    private transient volatile List<Edge> sortedEdges;
+    // Set by freeze(), after which the graph rejects mutation
+    private transient volatile boolean frozen;
 
     // Inner class for vertex representation
     private static class Vertex {
@@ -19,8 +23,12 @@ public class Graph {
         Map<String, Edge> adjacentEdges;
 
         Vertex(String id) {
+            this(id, new HashMap<>());
+        }
+
+        Vertex(String id, Map<String, Edge> adjacentEdges) {
             this.id = id;
-            this.adjacentEdges = new HashMap<>();
+            this.adjacentEdges = adjacentEdges;
         }
     }
 
@@ -35,6 +43,20 @@ public class Graph {
         this.directed = directed;
     }
 
+    /**
+     * Wraps undirected adjacency maps built elsewhere in this package without copying them
+     * The caller hands over ownership; used by ConcurrentGraphBuilder.freeze() and VersionedGraph.Snapshot
+     */
+    Graph(String id, Map<String, ? extends Map<String, Edge>> adjacency, Set<Edge> edges) {
+        this.id = id;
+        this.vertices = new HashMap<>(adjacency.size() * 2);
+        this.edges = edges;
+        this.directed = false;
+        for (Map.Entry<String, ? extends Map<String, Edge>> entry : adjacency.entrySet()) {
+            vertices.put(entry.getKey(), new Vertex(entry.getKey(), entry.getValue()));
+        }
+    }
+
     /**
      * Factory method to create graph from vertex and edge lists
      */
@@ -56,6 +78,7 @@ public class Graph {
 
     // Vertex operations
     public void addVertex(String vertexId) {
+        checkNotFrozen();
         vertices.putIfAbsent(vertexId, new Vertex(vertexId));
     }
 
@@ -73,11 +96,13 @@ public class Graph {
 
     // Edge operations
     public void addEdge(Edge edge) {
+        checkNotFrozen();
         if (!containsVertex(edge.getSource()) || !containsVertex(edge.getDestination())) {
             throw new IllegalArgumentException("Both vertices must exist in the graph");
         }
 
         edges.add(edge);
+        sortedEdges = null;
 
         // Update adjacency lists
         Vertex sourceVertex = vertices.get(edge.getSource());
@@ -102,6 +127,85 @@ public class Graph {
         return edges.size();
     }
 
+    /**
+     * Gets all edges sorted by weight, ties kept in getEdges() order
+     * Served from the sorted edge index when one is built, otherwise sorted on every call.
+     */
+    public List<Edge> getSortedEdges() {
+        List<Edge> sorted = sortedEdges;
+        return sorted != null ? sorted : sortEdges();
+    }
+
+    /**
+     * Builds the sorted edge index, reused by getSortedEdges() until the graph is modified
+     */
+    public void buildSortedEdgeIndex() {
+        sortedEdges = sortEdges();
+    }
+
+    private List<Edge> sortEdges() {
+        // Sort packed (weight, position) keys in parallel instead of boxed edges
+        Edge[] byPosition = edges.toArray(new Edge[0]);
+        long[] keys = new long[byPosition.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long) byPosition[i].getWeight() << 32) | i;
+        }
+        Arrays.parallelSort(keys);
+        Edge[] sorted = new Edge[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            sorted[i] = byPosition[(int) keys[i]];
+        }
+        return Collections.unmodifiableList(Arrays.asList(sorted));
+    }
+
+    /**
+     * Checks if a weight-sorted edge order is currently cached
+     */
+    public boolean hasSortedEdgeIndex() {
+        return sortedEdges != null;
+    }
+
+    /**
+     * Restores a previously persisted weight-sorted edge order
+     * @param sorted every edge of this graph in non-decreasing weight order
+     */
+    public void restoreSortedEdges(List<Edge> sorted) {
+        checkNotFrozen();
+        if (sorted.size() != edges.size()) {
+            throw new IllegalArgumentException("Sorted edge index must contain every edge exactly once");
+        }
+        for (int i = 0; i < sorted.size(); i++) {
+            if (!edges.contains(sorted.get(i))) {
+                throw new IllegalArgumentException("Edge " + sorted.get(i) + " is not part of this graph");
+            }
+            if (i > 0 && sorted.get(i - 1).getWeight() > sorted.get(i).getWeight()) {
+                throw new IllegalArgumentException("Edges are not sorted by weight");
+            }
+        }
+        sortedEdges = Collections.unmodifiableList(new ArrayList<>(sorted));
+    }
+
+    /**
+     * Makes the graph read-only and builds its sorted edge index up front,
+     * so any number of threads can then run algorithms on it
+     * @return this graph
+     */
+    public Graph freeze() {
+        buildSortedEdgeIndex();
+        frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("Graph " + id + " is frozen");
+        }
+    }
+
     /**
      * Gets all edges incident to a vertex
      */
@@ -112,6 +216,17 @@ public class Graph {
         return new ArrayList<>(vertex.adjacentEdges.values());
     }
 
+    /**
+     * Gets a read-only view of the edges incident to a vertex without copying them
+     * The view reflects later changes to the graph.
+     */
+    public Collection<Edge> getIncidentEdgeView(String vertexId) {
+        Vertex vertex = vertices.get(vertexId);
+        if (vertex == null) return Collections.emptyList();
+
+        return Collections.unmodifiableCollection(vertex.adjacentEdges.values());
+    }
+
     /**
      * Gets neighbors of a vertex
      */
@@ -134,12 +249,12 @@ public class Graph {
      * Checks if graph is connected using BFS
      */
     public boolean isConnected() {
-        if (vertices.isEmpty()) return true;
+        if (getVertexCount() == 0) return true;
 
         Set<String> visited = new HashSet<>();
         Queue<String> queue = new LinkedList<>();
 
-        String startVertex = vertices.keySet().iterator().next();
+        String startVertex = getVertices().get(0);
         queue.offer(startVertex);
         visited.add(startVertex);
 
@@ -153,7 +268,7 @@ public class Graph {
             }
         }
 
-        return visited.size() == vertices.size();
+        return visited.size() == getVertexCount();
     }
 
     /**
@@ -163,7 +278,7 @@ public class Graph {
         List<Set<String>> components = new ArrayList<>();
         Set<String> visited = new HashSet<>();
 
-        for (String vertex : vertices.keySet()) {
+        for (String vertex : getVertices()) {
             if (!visited.contains(vertex)) {
                 Set<String> component = new HashSet<>();
                 bfsComponent(vertex, component);
@@ -202,6 +317,13 @@ public class Graph {
         return (double) getEdgeCount() / maxEdges;
     }
 
+    /**
+     * Gets the snapshot version this graph represents, 0 for a plain graph
+     */
+    public long getVersion() {
+        return 0;
+    }
+
     // Getters
     public String getId() { return id; }
     public boolean isDirected() { return directed; }
@@ -218,7 +340,7 @@ public class Graph {
             }
         }
 
-        for (Edge edge : edges) {
+        for (Edge edge : getEdges()) {
             if (vertexSubset.contains(edge.getSource()) &&
                     vertexSubset.contains(edge.getDestination())) {
                 subgraph.addEdge(edge);
@@ -260,7 +382,7 @@ public class Graph {
 
         // Vertex degrees
         sb.append("\nVertex Degrees:\n");
-        vertices.keySet().stream()
+        getVertices().stream()
                 .sorted()
                 .forEach(v -> sb.append("  ").append(v).append(": degree ").append(getDegree(v)).append("\n"));
 
@@ -0,0 +1,66 @@
+package com.transportation.model;
+
+/**
+ * Typed result of the MST run on one graph
+ * Kruskal's tree is the result and carries the verification flag. Prim is
+ * only run by the bench comparison and is null otherwise.
+ * Used directly by the JSON and CSV exporters
+ */
+public class GraphResult {
+    private final String graphId;
+    private final int vertexCount;
+    private final int edgeCount;
+    private final String category;
+    private final double graphDensity;
+    private final boolean connected;
+    private final MSTResult prim;
+    private final MSTResult kruskal;
+    private final boolean verified;
+
+    public GraphResult(String graphId, int vertexCount, int edgeCount, String category,
+                       double graphDensity, boolean connected,
+                       MSTResult prim, MSTResult kruskal, boolean verified) {
+        this.graphId = graphId;
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.category = category;
+        this.graphDensity = graphDensity;
+        this.connected = connected;
+        this.prim = prim;
+        this.kruskal = kruskal;
+        this.verified = verified;
+    }
+
+    // Getters
+    public String getGraphId() { return graphId; }
+    public int getVertexCount() { return vertexCount; }
+    public int getEdgeCount() { return edgeCount; }
+    public String getCategory() { return category; }
+    public double getGraphDensity() { return graphDensity; }
+    public boolean isConnected() { return connected; }
+    public MSTResult getPrim() { return prim; }
+    public MSTResult getKruskal() { return kruskal; }
+
+    public boolean hasPrim() { return prim != null; }
+
+    /**
+     * Checks if Kruskal's tree passed MST verification against the graph
+     */
+    public boolean isVerified() { return verified; }
+
+    /**
+     * Checks if both algorithms produced the same total cost
+     * False when Prim was not run.
+     */
+    public boolean isCostsConsistent() {
+        return prim != null && prim.getTotalCost() == kruskal.getTotalCost();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "GraphResult{graphId='%s', vertices=%d, edges=%d, category='%s', consistent=%s, verified=%b}",
+                graphId, vertexCount, edgeCount, category, prim == null ? "n/a" : isCostsConsistent(), verified
+        );
+    }
+}
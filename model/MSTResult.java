@@ -10,10 +10,20 @@ public class MSTResult {
     private int operationsCount;
     private int vertexCount;
     private int edgeCount;
+    private long snapshotVersion;
 
     public MSTResult(String algorithm, List<Edge> mstEdges, int totalCost,
                      long executionTimeMs, int operationsCount,
                      int vertexCount, int edgeCount) {
+        this(algorithm, mstEdges, totalCost, executionTimeMs, operationsCount, vertexCount, edgeCount, 0);
+    }
+
+    /**
+     * @param snapshotVersion Graph.getVersion() of the graph the tree was computed from
+     */
+    public MSTResult(String algorithm, List<Edge> mstEdges, int totalCost,
+                     long executionTimeMs, int operationsCount,
+                     int vertexCount, int edgeCount, long snapshotVersion) {
         this.algorithm = algorithm;
         this.mstEdges = mstEdges;
         this.totalCost = totalCost;
@@ -21,6 +31,7 @@ public class MSTResult {
         this.operationsCount = operationsCount;
         this.vertexCount = vertexCount;
         this.edgeCount = edgeCount;
+        this.snapshotVersion = snapshotVersion;
     }
 
     // Getters
@@ -31,6 +42,7 @@ public class MSTResult {
     public int getOperationsCount() { return operationsCount; }
     public int getVertexCount() { return vertexCount; }
     public int getEdgeCount() { return edgeCount; }
+    public long getSnapshotVersion() { return snapshotVersion; }
 
     public int getMstEdgeCount() {
         return mstEdges != null ? mstEdges.size() : 0;
@@ -0,0 +1,51 @@
+package com.transportation.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Minimum spanning forest of a possibly disconnected graph
+ * Holds one MSTResult per connected component; the inherited edge list is
+ * the union of all component trees. The forest cost is kept as a long, the
+ * inherited int cost saturates at Integer.MAX_VALUE.
+ */
+public class SpanningForestResult extends MSTResult {
+    private final List<MSTResult> componentResults;
+    private final long forestCost;
+
+    /**
+     * @param snapshotVersion Graph.getVersion() of the graph the forest was computed from
+     */
+    public SpanningForestResult(String algorithm, List<Edge> forestEdges, long forestCost,
+                                List<MSTResult> componentResults, long executionTimeMs,
+                                int operationsCount, int vertexCount, int edgeCount, long snapshotVersion) {
+        super(algorithm, forestEdges, (int) Math.min(forestCost, Integer.MAX_VALUE),
+                executionTimeMs, operationsCount, vertexCount, edgeCount, snapshotVersion);
+        this.forestCost = forestCost;
+        this.componentResults = Collections.unmodifiableList(componentResults);
+    }
+
+    // Getters
+    public List<MSTResult> getComponentResults() { return componentResults; }
+    public long getForestCost() { return forestCost; }
+
+    public int getComponentCount() {
+        return componentResults.size();
+    }
+
+    /**
+     * Checks if the forest is a single spanning tree
+     */
+    public boolean isSpanningTree() {
+        return componentResults.size() <= 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "SpanningForestResult{algorithm='%s', forestCost=%d, components=%d, executionTime=%dms, operations=%d, edges=%d}",
+                getAlgorithm(), forestCost, getComponentCount(), getExecutionTimeMs(),
+                getOperationsCount(), getMstEdgeCount()
+        );
+    }
+}
@@ -0,0 +1,437 @@
+package com.transportation.model;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Multi-version graph: writers publish immutable snapshots, readers never lock
+ *
+ * A snapshot maps vertex ids to adjacency maps through a persistent hash
+ * array mapped trie: each node consumes 5 bits of the id's hash and keeps
+ * only its occupied slots, so a lookup visits at most 7 nodes. An edit
+ * copies the trie nodes on the paths to the vertices it touches, O(log V)
+ * per vertex, and the adjacency maps of those vertices; everything else is
+ * shared with the previous snapshot and nothing is ever rehashed.
+ * current() is a single volatile read, so a reader keeps a consistent Graph
+ * for as long as it holds the Snapshot while writers go on publishing. Only
+ * the newest snapshot is referenced here, so older versions are garbage
+ * collected once their last reader lets go.
+ */
+public class VersionedGraph {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private final String id;
+    private volatile Snapshot current;
+
+    public VersionedGraph(String id) {
+        this.id = id;
+        this.current = new Snapshot(id, 0, new TrieNode(null, 0, new Object[0]), 0, 0);
+    }
+
+    /**
+     * Gets the latest published snapshot without locking
+     */
+    public Snapshot current() {
+        return current;
+    }
+
+    public long getVersion() {
+        return current.getVersion();
+    }
+
+    /**
+     * Applies several changes and publishes them as one new version
+     * If the editor throws, nothing is published.
+     */
+    public synchronized Snapshot edit(Consumer<Editor> changes) {
+        Editor editor = new Editor(current);
+        try {
+            changes.accept(editor);
+            if (editor.changed) {
+                current = editor.publish();
+            }
+        } finally {
+            editor.closed = true; // Its nodes may now be shared, so a leaked editor must not touch them
+        }
+        return current;
+    }
+
+    public Snapshot addVertex(String vertexId) {
+        return edit(editor -> editor.addVertex(vertexId));
+    }
+
+    public Snapshot addEdge(Edge edge) {
+        return edit(editor -> editor.addEdge(edge));
+    }
+
+    public Snapshot removeEdge(String source, String destination) {
+        return edit(editor -> editor.removeEdge(source, destination));
+    }
+
+    public Snapshot setWeight(String source, String destination, int weight) {
+        return edit(editor -> editor.setWeight(source, destination, weight));
+    }
+
+    public String getId() { return id; }
+
+    // Trie leaf: vertex id -> (neighbour id -> edge), immutable once published
+    private static final class Entry {
+        final String vertexId;
+        final int hash;
+        final Map<String, Edge> adjacency;
+
+        Entry(String vertexId, int hash, Map<String, Edge> adjacency) {
+            this.vertexId = vertexId;
+            this.hash = hash;
+            this.adjacency = adjacency;
+        }
+    }
+
+    /**
+     * Trie node: bitmap of occupied slots over a packed array of Entry or TrieNode
+     * Once the hash is used up the node is a plain list of colliding entries.
+     * Nodes owned by an open editor are changed in place, all others are copied first.
+     */
+    private static final class TrieNode {
+        final Object owner;
+        int bitmap;
+        Object[] slots;
+
+        TrieNode(Object owner, int bitmap, Object[] slots) {
+            this.owner = owner;
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+    }
+
+    private static int hashOf(String vertexId) {
+        int h = vertexId.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static Map<String, Edge> find(TrieNode node, String vertexId) {
+        int hash = hashOf(vertexId);
+        for (int shift = 0; ; shift += BITS) {
+            if (shift >= Integer.SIZE) {
+                for (Object slot : node.slots) {
+                    if (((Entry) slot).vertexId.equals(vertexId)) return ((Entry) slot).adjacency;
+                }
+                return null;
+            }
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((node.bitmap & bit) == 0) return null;
+            Object slot = node.slots[Integer.bitCount(node.bitmap & (bit - 1))];
+            if (slot instanceof Entry) {
+                Entry entry = (Entry) slot;
+                return entry.vertexId.equals(vertexId) ? entry.adjacency : null;
+            }
+            node = (TrieNode) slot;
+        }
+    }
+
+    private static void forEachEntry(TrieNode node, Consumer<Entry> action) {
+        for (Object slot : node.slots) {
+            if (slot instanceof Entry) {
+                action.accept((Entry) slot);
+            } else {
+                forEachEntry((TrieNode) slot, action);
+            }
+        }
+    }
+
+    /**
+     * Changes staged against one snapshot, copying only what they touch
+     */
+    public static final class Editor {
+        private final Snapshot base;
+        private final Object owner = new Object();
+        private final Map<String, Map<String, Edge>> copiedAdjacency = new HashMap<>();
+        private TrieNode root;
+        private int vertexCount;
+        private int edgeCount;
+        private boolean changed;
+        private boolean closed;
+
+        private Editor(Snapshot base) {
+            this.base = base;
+            this.root = base.root;
+            this.vertexCount = base.vertexCount;
+            this.edgeCount = base.edgeCount;
+        }
+
+        public Editor addVertex(String vertexId) {
+            if (vertexId == null) {
+                throw new IllegalArgumentException("Vertex id cannot be null");
+            }
+            if (adjacencyOf(vertexId) == null) {
+                Map<String, Edge> adjacency = new HashMap<>();
+                root = put(root, new Entry(vertexId, hashOf(vertexId), adjacency), 0);
+                copiedAdjacency.put(vertexId, adjacency);
+                vertexCount++;
+                changed = true;
+            }
+            return this;
+        }
+
+        public Editor addEdge(Edge edge) {
+            Map<String, Edge> sourceEdges = adjacencyOf(edge.getSource());
+            if (sourceEdges == null || adjacencyOf(edge.getDestination()) == null) {
+                throw new IllegalArgumentException("Both vertices must exist in the graph");
+            }
+            if (sourceEdges.containsKey(edge.getDestination())) {
+                throw new IllegalArgumentException("Edge " + edge.getId() + " already exists");
+            }
+            writableAdjacency(edge.getSource()).put(edge.getDestination(), edge);
+            writableAdjacency(edge.getDestination()).put(edge.getSource(), edge);
+            edgeCount++;
+            changed = true;
+            return this;
+        }
+
+        public Editor removeEdge(String source, String destination) {
+            requireEdge(source, destination);
+            writableAdjacency(source).remove(destination);
+            writableAdjacency(destination).remove(source);
+            edgeCount--;
+            changed = true;
+            return this;
+        }
+
+        public Editor setWeight(String source, String destination, int weight) {
+            Edge old = requireEdge(source, destination);
+            // Keep the original orientation so getEdges() reports the edge once
+            Edge updated = new Edge(old.getSource(), old.getDestination(), weight);
+            writableAdjacency(source).put(destination, updated);
+            writableAdjacency(destination).put(source, updated);
+            changed = true;
+            return this;
+        }
+
+        private Edge requireEdge(String source, String destination) {
+            Map<String, Edge> sourceEdges = adjacencyOf(source);
+            Edge edge = sourceEdges == null ? null : sourceEdges.get(destination);
+            if (edge == null) {
+                throw new IllegalArgumentException("Edge " + source + "-" + destination + " does not exist");
+            }
+            return edge;
+        }
+
+        private Map<String, Edge> adjacencyOf(String vertexId) {
+            if (closed) {
+                throw new IllegalStateException("Editor of " + base.getId() + " is closed");
+            }
+            return find(root, vertexId);
+        }
+
+        // Copies the vertex's adjacency map once per edit and links the copy into the trie
+        private Map<String, Edge> writableAdjacency(String vertexId) {
+            Map<String, Edge> adjacency = copiedAdjacency.get(vertexId);
+            if (adjacency == null) {
+                adjacency = new HashMap<>(adjacencyOf(vertexId));
+                root = put(root, new Entry(vertexId, hashOf(vertexId), adjacency), 0);
+                copiedAdjacency.put(vertexId, adjacency);
+            }
+            return adjacency;
+        }
+
+        // Inserts or replaces entry below node, copying each node on the path this edit does not own yet
+        private TrieNode put(TrieNode node, Entry entry, int shift) {
+            TrieNode target = node.owner == owner ? node : new TrieNode(owner, node.bitmap, node.slots.clone());
+            if (shift >= Integer.SIZE) {
+                for (int i = 0; i < target.slots.length; i++) {
+                    if (((Entry) target.slots[i]).vertexId.equals(entry.vertexId)) {
+                        target.slots[i] = entry;
+                        return target;
+                    }
+                }
+                target.slots = Arrays.copyOf(target.slots, target.slots.length + 1);
+                target.slots[target.slots.length - 1] = entry;
+                return target;
+            }
+
+            int bit = 1 << ((entry.hash >>> shift) & MASK);
+            int index = Integer.bitCount(target.bitmap & (bit - 1));
+            if ((target.bitmap & bit) == 0) {
+                Object[] slots = new Object[target.slots.length + 1];
+                System.arraycopy(target.slots, 0, slots, 0, index);
+                slots[index] = entry;
+                System.arraycopy(target.slots, index, slots, index + 1, target.slots.length - index);
+                target.slots = slots;
+                target.bitmap |= bit;
+            } else if (target.slots[index] instanceof TrieNode) {
+                target.slots[index] = put((TrieNode) target.slots[index], entry, shift + BITS);
+            } else {
+                Entry existing = (Entry) target.slots[index];
+                if (existing.vertexId.equals(entry.vertexId)) {
+                    target.slots[index] = entry;
+                } else {
+                    // Two ids share this slot: push both one level down
+                    TrieNode child = put(new TrieNode(owner, 0, new Object[0]), existing, shift + BITS);
+                    target.slots[index] = put(child, entry, shift + BITS);
+                }
+            }
+            return target;
+        }
+
+        private Snapshot publish() {
+            return new Snapshot(base.getId(), base.getVersion() + 1, root, vertexCount, edgeCount);
+        }
+    }
+
+    /**
+     * One immutable version of the graph, usable by every algorithm taking a Graph
+     *
+     * Reads are served from the trie; every Graph method that touches the
+     * inherited vertex and edge storage is overridden, so that storage stays
+     * empty and unused. The inherited mutators are overridden to throw.
+     */
+    public static final class Snapshot extends Graph {
+        private final long version;
+        private final TrieNode root;
+        private final int vertexCount;
+        private final int edgeCount;
+        private volatile List<Edge> sortedEdges;
+
+        private Snapshot(String id, long version, TrieNode root, int vertexCount, int edgeCount) {
+            // The inherited storage is never read, keep it empty and unmodifiable
+            super(id, Collections.<String, Map<String, Edge>>emptyMap(), Collections.<Edge>emptySet());
+            this.version = version;
+            this.root = root;
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+        }
+
+        private Map<String, Edge> adjacencyOf(String vertexId) {
+            return find(root, vertexId);
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public boolean isFrozen() {
+            return true;
+        }
+
+        @Override
+        public Graph freeze() {
+            buildSortedEdgeIndex();
+            return this;
+        }
+
+        @Override
+        public void addVertex(String vertexId) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addEdge(Edge edge) {
+            throw readOnly();
+        }
+
+        @Override
+        public void restoreSortedEdges(List<Edge> sorted) {
+            throw readOnly();
+        }
+
+        private IllegalStateException readOnly() {
+            return new IllegalStateException("Snapshot " + version + " of " + getId() + " is read-only");
+        }
+
+        @Override
+        public boolean containsVertex(String vertexId) {
+            return adjacencyOf(vertexId) != null;
+        }
+
+        @Override
+        public List<String> getVertices() {
+            List<String> vertices = new ArrayList<>(vertexCount);
+            forEachEntry(root, entry -> vertices.add(entry.vertexId));
+            return vertices;
+        }
+
+        @Override
+        public int getVertexCount() {
+            return vertexCount;
+        }
+
+        @Override
+        public boolean containsEdge(String source, String destination) {
+            Map<String, Edge> sourceEdges = adjacencyOf(source);
+            return sourceEdges != null && sourceEdges.containsKey(destination);
+        }
+
+        @Override
+        public List<Edge> getEdges() {
+            List<Edge> edges = new ArrayList<>(edgeCount);
+            forEachEntry(root, entry -> {
+                for (Edge edge : entry.adjacency.values()) {
+                    // Each edge sits in both endpoint maps, report it from its source only
+                    if (edge.getSource().equals(entry.vertexId)) edges.add(edge);
+                }
+            });
+            return edges;
+        }
+
+        @Override
+        public int getEdgeCount() {
+            return edgeCount;
+        }
+
+        @Override
+        public List<Edge> getSortedEdges() {
+            List<Edge> sorted = sortedEdges;
+            return sorted != null ? sorted : sortEdges();
+        }
+
+        @Override
+        public void buildSortedEdgeIndex() {
+            // Concurrent callers may each build it once; the results are identical
+            sortedEdges = sortEdges();
+        }
+
+        private List<Edge> sortEdges() {
+            List<Edge> edges = getEdges();
+            edges.sort(null);
+            return Collections.unmodifiableList(edges);
+        }
+
+        @Override
+        public boolean hasSortedEdgeIndex() {
+            return sortedEdges != null;
+        }
+
+        @Override
+        public List<Edge> getIncidentEdges(String vertexId) {
+            Map<String, Edge> edges = adjacencyOf(vertexId);
+            return edges == null ? Collections.emptyList() : new ArrayList<>(edges.values());
+        }
+
+        @Override
+        public Collection<Edge> getIncidentEdgeView(String vertexId) {
+            Map<String, Edge> edges = adjacencyOf(vertexId);
+            return edges == null ? Collections.emptyList() : Collections.unmodifiableCollection(edges.values());
+        }
+
+        @Override
+        public List<String> getNeighbors(String vertexId) {
+            Map<String, Edge> edges = adjacencyOf(vertexId);
+            return edges == null ? Collections.emptyList() : new ArrayList<>(edges.keySet());
+        }
+
+        @Override
+        public int getDegree(String vertexId) {
+            Map<String, Edge> edges = adjacencyOf(vertexId);
+            return edges == null ? 0 : edges.size();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Snapshot{id='%s', version=%d, vertices=%d, edges=%d}",
+                    getId(), version, vertexCount, edgeCount);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.transportation.model;
+
+import java.util.*;
+
+/**
+ * What-if scenario over a shared base network
+ *
+ * Only the edges whose weight differs from the base are stored, keyed by
+ * edge id; every other weight is read through from the base graph, which
+ * must not be modified while overlays refer to it. derive() copies just
+ * the changes, so many scenarios can share one base cheaply.
+ */
+public class WeightOverlay {
+    private final String name;
+    private final Graph base;
+    private final Map<String, Integer> changedWeights;
+
+    public WeightOverlay(String name, Graph base) {
+        this(name, base, new HashMap<>());
+    }
+
+    private WeightOverlay(String name, Graph base, Map<String, Integer> changedWeights) {
+        if (name == null || base == null) {
+            throw new IllegalArgumentException("Name and base graph cannot be null");
+        }
+        this.name = name;
+        this.base = base;
+        this.changedWeights = changedWeights;
+    }
+
+    /**
+     * Sets the scenario weight of an existing base edge
+     * @return this overlay, for chaining
+     */
+    public WeightOverlay setWeight(String source, String destination, int weight) {
+        if (!base.containsEdge(source, destination)) {
+            throw new IllegalArgumentException("Edge " + source + "-" + destination + " is not part of the base graph");
+        }
+        Edge changed = new Edge(source, destination, weight); // Validates the weight
+        changedWeights.put(changed.getId(), weight);
+        return this;
+    }
+
+    /**
+     * Drops the change of an edge, restoring its base weight
+     */
+    public WeightOverlay reset(String source, String destination) {
+        changedWeights.remove(new Edge(source, destination, 0).getId());
+        return this;
+    }
+
+    /**
+     * Gets a new overlay starting from this one's changes
+     */
+    public WeightOverlay derive(String newName) {
+        return new WeightOverlay(newName, base, new HashMap<>(changedWeights));
+    }
+
+    /**
+     * Gets the scenario weight of a base edge
+     */
+    public int getWeight(Edge edge) {
+        Integer changed = changedWeights.get(edge.getId());
+        return changed != null ? changed : edge.getWeight();
+    }
+
+    public boolean isChanged(Edge edge) {
+        return changedWeights.containsKey(edge.getId());
+    }
+
+    /**
+     * Gets the base edge with its scenario weight, the base instance itself when unchanged
+     */
+    public Edge apply(Edge edge) {
+        Integer changed = changedWeights.get(edge.getId());
+        return changed == null ? edge : new Edge(edge.getSource(), edge.getDestination(), changed);
+    }
+
+    /**
+     * Builds a full standalone copy of the scenario graph
+     */
+    public Graph toGraph() {
+        List<Edge> edges = new ArrayList<>(base.getEdgeCount());
+        for (Edge edge : base.getEdges()) {
+            edges.add(apply(edge));
+        }
+        return Graph.createGraph(base.getId() + "_" + name, base.getVertices(), edges);
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public Graph getBase() { return base; }
+    public int getChangeCount() { return changedWeights.size(); }
+    public Map<String, Integer> getChangedWeights() { return Collections.unmodifiableMap(changedWeights); }
+
+    @Override
+    public String toString() {
+        return String.format("WeightOverlay{name='%s', base='%s', changes=%d}", name, base.getId(), changedWeights.size());
+    }
+}
@@ -0,0 +1,52 @@
+package com.transportation;
+
+import com.transportation.algorithms.BottleneckPathIndex;
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.SpanningForestAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+class BottleneckPathIndexTest {
+
+    @Test
+    void testBottleneckQueries() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D", "E");
+        List<Edge> edges = Arrays.asList(
+                new Edge("A", "B", 4),
+                new Edge("B", "C", 2),
+                new Edge("C", "D", 7),
+                new Edge("A", "C", 9),
+                new Edge("B", "D", 8),
+                new Edge("D", "E", 1)
+        );
+        Graph graph = Graph.createGraph("test_bottleneck", vertices, edges);
+        BottleneckPathIndex index = new BottleneckPathIndex(graph, new KruskalAlgorithm().findMST(graph));
+
+        // MST: D-E(1), B-C(2), A-B(4), C-D(7)
+        assertEquals(4, index.bottleneck("A", "C"));  // A-B-C beats the direct road of 9
+        assertEquals(7, index.bottleneck("B", "E"));
+        assertEquals(1, index.bottleneck("E", "D"));
+        assertEquals(0, index.bottleneck("C", "C"));
+
+        int[] batch = index.bottlenecks(Arrays.asList("A", "B", "E"), Arrays.asList("E", "C", "A"));
+        assertArrayEquals(new int[]{7, 2, 7}, batch);
+    }
+
+    @Test
+    void testBottleneckAcrossForest() {
+        Graph graph = Graph.createGraph("test_islands", Arrays.asList("A", "B", "C", "D"),
+                Arrays.asList(new Edge("A", "B", 3), new Edge("C", "D", 5)));
+        BottleneckPathIndex index = new BottleneckPathIndex(graph,
+                new SpanningForestAlgorithm().findSpanningForest(graph));
+
+        assertEquals(3, index.bottleneck("A", "B"));
+        assertEquals(5, index.bottleneck("D", "C"));
+        assertFalse(index.isReachable("A", "D"));
+        assertEquals(Integer.MAX_VALUE, index.bottleneck("A", "D"));
+    }
+}
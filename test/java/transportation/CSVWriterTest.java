@@ -0,0 +1,88 @@
+package com.transportation;
+
+import com.transportation.utils.CSVWriter;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.Random;
+
+class CSVWriterTest {
+
+    private static String format(double value, int decimals) throws IOException {
+        StringWriter out = new StringWriter();
+        try (CSVWriter writer = new CSVWriter(out)) {
+            writer.writeDouble(value, decimals);
+        }
+        return out.toString();
+    }
+
+    private static void assertMatchesFormat(double value, int decimals) throws IOException {
+        assertEquals(String.format(Locale.ROOT, "%." + decimals + "f", value), format(value, decimals),
+                "value " + value + " with " + decimals + " decimals");
+    }
+
+    @Test
+    void testBoundaryValuesMatchStringFormat() throws IOException {
+        double[] values = {
+                0.0, -0.0, 0.5, -0.5, 1.5, 2.5, 0.125, 0.375, 1.005, 1.015, 2.675, 0.045,
+                -0.001, -0.0049, 0.0049999999999999, 0.9999999999, 9.9995, 123456.78905,
+                Math.nextUp(0.5), Math.nextDown(0.5), Math.nextUp(2.5), Math.nextDown(2.5),
+                1e15, 4.5e15, 9.007199254740991E15, 1e300, -1e300, Double.MIN_VALUE,
+                Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+        };
+        for (double value : values) {
+            for (int decimals = 0; decimals <= 12; decimals++) {
+                assertMatchesFormat(value, decimals);
+            }
+        }
+    }
+
+    @Test
+    void testRandomValuesMatchStringFormat() throws IOException {
+        Random random = new Random(26);
+        for (int i = 0; i < 20000; i++) {
+            int decimals = random.nextInt(10);
+            // Values on a decimal grid hit the half-way cases, the others exercise plain rounding
+            double value = i % 2 == 0
+                    ? (random.nextInt(2_000_000) - 1_000_000) / Math.pow(10, random.nextInt(8))
+                    : (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 5);
+            assertMatchesFormat(value, decimals);
+        }
+    }
+
+    @Test
+    void testIntegersAndQuoting() throws IOException {
+        StringWriter out = new StringWriter();
+        try (CSVWriter writer = new CSVWriter(out)) {
+            writer.writeLong(Long.MIN_VALUE);
+            writer.writeLong(Long.MAX_VALUE);
+            writer.writeInt(-42);
+            writer.writeString("plain");
+            writer.writeString("a,b");
+            writer.writeString("say \"hi\"");
+            writer.writeString("line\nbreak");
+            writer.writeString(null);
+            writer.endRow();
+        }
+        assertEquals("-9223372036854775808,9223372036854775807,-42,plain,\"a,b\",\"say \"\"hi\"\"\","
+                + "\"line\nbreak\",\n", out.toString());
+    }
+
+    @Test
+    void testLongOutputSpansBufferFlushes() throws IOException {
+        StringWriter out = new StringWriter();
+        StringBuilder expected = new StringBuilder();
+        try (CSVWriter writer = new CSVWriter(out)) {
+            for (int row = 0; row < 20000; row++) {
+                writer.writeInt(row);
+                writer.writeDouble(row / 7.0, 4);
+                writer.endRow();
+                expected.append(row).append(',').append(String.format(Locale.ROOT, "%.4f", row / 7.0)).append('\n');
+            }
+        }
+        assertEquals(expected.toString(), out.toString());
+    }
+}
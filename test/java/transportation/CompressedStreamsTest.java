@@ -0,0 +1,97 @@
+package com.transportation;
+
+import com.transportation.utils.CompressedStreams;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.*;
+
+class CompressedStreamsTest {
+
+    // Several MB of mildly compressible data, well over the pipe's capacity
+    private byte[] createData(int size) {
+        Random random = new Random(29);
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) ('a' + random.nextInt(8));
+        }
+        return data;
+    }
+
+    private File write(byte[] data, String suffix) throws IOException {
+        File file = File.createTempFile("compressed", suffix);
+        file.deleteOnExit();
+        try (OutputStream out = CompressedStreams.openOutput(file.getPath())) {
+            out.write(data);
+        }
+        return file;
+    }
+
+    @Test
+    void testRoundTripByExtension() throws IOException {
+        byte[] data = createData(3_000_000);
+        for (String suffix : Arrays.asList(".gz", ".deflate", ".bin")) {
+            File file = write(data, suffix);
+            if (CompressedStreams.isCompressed(file.getPath())) {
+                assertTrue(file.length() < data.length / 2, suffix + " output should be compressed");
+            } else {
+                assertEquals(data.length, file.length());
+            }
+
+            try (InputStream in = CompressedStreams.openInput(file.getPath())) {
+                assertArrayEquals(data, in.readAllBytes());
+                assertEquals(-1, in.read());
+            }
+        }
+    }
+
+    @Test
+    void testEarlyCloseStopsWorkerCleanly() throws Exception {
+        byte[] data = createData(8_000_000);
+        List<Throwable> uncaught = Collections.synchronizedList(new ArrayList<>());
+        Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, e) -> uncaught.add(e));
+        try {
+            for (String suffix : Arrays.asList(".gz", ".deflate")) {
+                File file = write(data, suffix);
+                for (int round = 0; round < 20; round++) {
+                    InputStream in = CompressedStreams.openInput(file.getPath());
+                    byte[] head = new byte[1000 * round + 1];
+                    assertEquals(head.length, in.readNBytes(head, 0, head.length));
+                    assertEquals(data[head.length - 1], head[head.length - 1]);
+                    in.close();
+                    assertEquals(-1, in.read());
+                }
+            }
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(previous);
+        }
+        assertTrue(uncaught.isEmpty(), "worker failed: " + uncaught);
+
+        // close() waits for the worker, so no decompression thread outlives its stream
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            assertFalse(thread.getName().startsWith("decompress-compressed"), thread.getName() + " still running");
+        }
+    }
+
+    @Test
+    void testTruncatedInputFails() throws IOException {
+        byte[] data = createData(1_000_000);
+        for (String suffix : Arrays.asList(".gz", ".deflate")) {
+            File file = write(data, suffix);
+            byte[] compressed = Files.readAllBytes(file.toPath());
+            Files.write(file.toPath(), Arrays.copyOf(compressed, compressed.length / 2));
+
+            try (InputStream in = CompressedStreams.openInput(file.getPath())) {
+                assertThrows(IOException.class, in::readAllBytes);
+            }
+        }
+    }
+
+    @Test
+    void testMissingFile() {
+        assertThrows(FileNotFoundException.class, () -> CompressedStreams.openInput("missing/graphs.json.gz"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.transportation;
+
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.model.ConcurrentGraphBuilder;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ConcurrentGraphBuilderTest {
+
+    @Test
+    void testParallelIngestionWithDuplicates() throws InterruptedException {
+        Random random = new Random(49);
+        int vertexCount = 2000;
+        Graph expected = TestGraphs.randomConnected("expected", vertexCount, 0, 1, 30, random);
+        List<Edge> feed = expected.getEdges();
+
+        // Every thread ingests the whole feed, so all but one copy of each edge is a duplicate
+        ConcurrentGraphBuilder builder = new ConcurrentGraphBuilder("test_concurrent");
+        int threads = 8;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < vertexCount; i++) {
+                    builder.addVertex("V" + i);
+                }
+                for (Edge edge : feed) {
+                    builder.addEdge(edge);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(feed.size(), builder.getEdgeCount());
+        assertEquals((long) feed.size() * (threads - 1), builder.getDuplicateEdgeCount());
+
+        Graph graph = builder.freeze();
+        assertTrue(graph.isFrozen());
+        assertTrue(graph.hasSortedEdgeIndex());
+        assertEquals(vertexCount, graph.getVertexCount());
+        assertEquals(feed.size(), graph.getEdgeCount());
+        assertTrue(graph.isConnected());
+        assertEquals(new KruskalAlgorithm().findMST(expected).getTotalCost(),
+                new KruskalAlgorithm().findMST(graph).getTotalCost());
+    }
+
+    @Test
+    void testFreezeWhileIngesting() throws InterruptedException {
+        int vertexCount = 20000;
+        ConcurrentGraphBuilder builder = new ConcurrentGraphBuilder("test_racing_freeze");
+        for (int i = 0; i < vertexCount; i++) {
+            builder.addVertex("V" + i);
+        }
+
+        // Each addition either lands before the freeze or is rejected after it
+        AtomicInteger added = new AtomicInteger();
+        Thread[] workers = new Thread[4];
+        for (int t = 0; t < workers.length; t++) {
+            int offset = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    for (int i = offset + 1; i < vertexCount; i += workers.length) {
+                        builder.addEdge(new Edge("V" + (i - 1), "V" + i, 1));
+                        added.incrementAndGet();
+                    }
+                } catch (IllegalStateException frozen) {
+                    // Expected once the main thread freezes
+                }
+            });
+            workers[t].start();
+        }
+        while (added.get() < 1000) {
+            Thread.onSpinWait();
+        }
+        Graph graph = builder.freeze();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(added.get(), graph.getEdgeCount());
+        assertEquals(graph.getEdgeCount(), graph.getEdges().size());
+        assertEquals(2 * graph.getEdgeCount(), graph.getVertices().stream().mapToInt(graph::getDegree).sum());
+    }
+
+    @Test
+    void testFrozenGraphRejectsMutation() {
+        ConcurrentGraphBuilder builder = new ConcurrentGraphBuilder("test_frozen");
+        builder.addVertex("A");
+        builder.addVertex("B");
+        assertTrue(builder.addEdge(new Edge("A", "B", 1)));
+        assertFalse(builder.addEdge(new Edge("B", "A", 2)));
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(new Edge("A", "C", 1)));
+
+        Graph graph = builder.freeze();
+
+        assertEquals(1, graph.getIncidentEdges("A").get(0).getWeight());
+        assertThrows(IllegalStateException.class, () -> graph.addVertex("C"));
+        assertThrows(IllegalStateException.class, () -> graph.addEdge(new Edge("A", "B", 3)));
+        assertThrows(IllegalStateException.class, () -> builder.addVertex("C"));
+        assertThrows(IllegalStateException.class, builder::freeze);
+    }
+}
@@ -0,0 +1,58 @@
+package com.transportation;
+
+import com.transportation.algorithms.DialPrimAlgorithm;
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+class DialPrimAlgorithmTest {
+
+    @Test
+    void testDialPrimWithSmallGraph() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D");
+        List<Edge> edges = Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("C", "D", 3),
+                new Edge("D", "A", 4),
+                new Edge("A", "C", 5)
+        );
+
+        MSTResult result = new DialPrimAlgorithm().findMST(Graph.createGraph("test_small", vertices, edges));
+
+        assertEquals(3, result.getMstEdgeCount());
+        assertEquals(6, result.getTotalCost());
+        assertEquals("DialPrim", result.getAlgorithm());
+    }
+
+    @Test
+    void testSmallAndWideWeightRanges() {
+        Random random = new Random(17);
+        // 100 uses one bucket per weight, 1_000_000 forces wide buckets
+        for (int maxWeight : new int[]{100, 1_000_000}) {
+            Graph graph = TestGraphs.randomConnected("test_weights_" + maxWeight, 400, 2000,
+                    1, maxWeight, random);
+
+            assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(),
+                    new DialPrimAlgorithm().findMST(graph).getTotalCost());
+        }
+    }
+
+    @Test
+    void testDialPrimWithDisconnectedGraph() {
+        Graph graph = Graph.createGraph("test_disconnected", Arrays.asList("A", "B", "C", "D"),
+                Arrays.asList(new Edge("A", "B", 1), new Edge("C", "D", 2)));
+
+        MSTResult result = new DialPrimAlgorithm().findMST(graph);
+
+        assertEquals(Integer.MAX_VALUE, result.getTotalCost());
+        assertEquals(0, result.getMstEdgeCount());
+    }
+}
@@ -0,0 +1,155 @@
+package com.transportation;
+
+import com.transportation.algorithms.DynamicMST;
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.SpanningForestAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import com.transportation.model.SpanningForestResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+class DynamicMSTTest {
+
+    @Test
+    void testInitialTreeMatchesKruskal() {
+        Graph graph = createGraph();
+        DynamicMST dynamic = new DynamicMST(graph);
+        MSTResult kruskal = new KruskalAlgorithm().findMST(graph);
+
+        assertEquals(kruskal.getTotalCost(), dynamic.getTotalCost());
+        assertEquals(3, dynamic.getTreeEdgeCount());
+        assertTrue(dynamic.isSpanningTree());
+    }
+
+    @Test
+    void testResultCostSaturatesInsteadOfWrapping() {
+        Graph graph = Graph.createGraph("heavy", Arrays.asList("A", "B", "C"),
+                Arrays.asList(new Edge("A", "B", 2_000_000_000), new Edge("B", "C", 2_000_000_000)));
+        DynamicMST dynamic = new DynamicMST(graph);
+
+        assertEquals(4_000_000_000L, dynamic.getTotalCost());
+        assertEquals(Integer.MAX_VALUE, dynamic.toMSTResult().getTotalCost());
+    }
+
+    @Test
+    void testUpdatesKeepTreeMinimal() {
+        DynamicMST dynamic = new DynamicMST(createGraph());
+        // Initial MST: A-B(1), B-C(2), C-D(3) = 6
+
+        // Cheaper road replaces the heaviest edge on its cycle
+        dynamic.insertEdge(new Edge("B", "D", 1));
+        assertEquals(4, dynamic.getTotalCost()); // A-B(1), B-C(2), B-D(1)
+
+        // Closing a tree road falls back to the best replacement
+        assertTrue(dynamic.deleteEdge("A", "B"));
+        assertEquals(7, dynamic.getTotalCost()); // B-C(2), B-D(1), D-A(4)
+
+        // Lowering a non-tree edge swaps it in
+        dynamic.updateWeight("C", "D", 0);
+        assertEquals(5, dynamic.getTotalCost()); // B-D(1), C-D(0), D-A(4)
+
+        // Raising a tree edge lets a cheaper non-tree edge take over
+        dynamic.updateWeight("D", "A", 10);
+        assertEquals(6, dynamic.getTotalCost()); // B-D(1), C-D(0), A-C(5)
+        assertTrue(dynamic.isSpanningTree());
+        assertEquals(6, dynamic.toMSTResult().getTotalCost());
+    }
+
+    @Test
+    void testDeletingBridgeLeavesForest() {
+        DynamicMST dynamic = new DynamicMST(Graph.createGraph("test_bridge",
+                Arrays.asList("A", "B", "C"),
+                Arrays.asList(new Edge("A", "B", 1), new Edge("B", "C", 2))));
+
+        assertTrue(dynamic.deleteEdge("B", "C"));
+        assertFalse(dynamic.isSpanningTree());
+        assertEquals(1, dynamic.getTotalCost());
+        assertEquals(Integer.MAX_VALUE, dynamic.toMSTResult().getTotalCost());
+    }
+
+    @Test
+    void testRandomUpdatesMatchRecomputedForest() {
+        Random random = new Random(31);
+        int vertexCount = 60;
+        List<String> vertices = new ArrayList<>();
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add("V" + i);
+        }
+        Map<String, Edge> current = new HashMap<>();
+        while (current.size() < 150) {
+            Edge edge = new Edge("V" + random.nextInt(vertexCount), "V" + random.nextInt(vertexCount), random.nextInt(20) + 1);
+            if (!edge.getSource().equals(edge.getDestination())) current.putIfAbsent(edge.getId(), edge);
+        }
+        DynamicMST dynamic = new DynamicMST(Graph.createGraph("test_random", vertices, new ArrayList<>(current.values())));
+        SpanningForestAlgorithm forests = new SpanningForestAlgorithm();
+
+        for (int step = 0; step < 600; step++) {
+            List<Edge> existing = new ArrayList<>(current.values());
+            int action = random.nextInt(3);
+            if (action == 0 && !existing.isEmpty()) {
+                Edge edge = existing.get(random.nextInt(existing.size()));
+                assertTrue(dynamic.deleteEdge(edge.getSource(), edge.getDestination()));
+                current.remove(edge.getId());
+            } else if (action == 1 && !existing.isEmpty()) {
+                Edge edge = existing.get(random.nextInt(existing.size()));
+                Edge updated = new Edge(edge.getSource(), edge.getDestination(), random.nextInt(20) + 1);
+                dynamic.updateWeight(edge.getSource(), edge.getDestination(), updated.getWeight());
+                current.put(edge.getId(), updated);
+            } else {
+                Edge edge = new Edge("V" + random.nextInt(vertexCount), "V" + random.nextInt(vertexCount), random.nextInt(20) + 1);
+                if (edge.getSource().equals(edge.getDestination()) || current.containsKey(edge.getId())) continue;
+                dynamic.insertEdge(edge);
+                current.put(edge.getId(), edge);
+            }
+
+            Graph graph = Graph.createGraph("test_random", vertices, new ArrayList<>(current.values()));
+            SpanningForestResult forest = forests.findSpanningForest(graph);
+            assertEquals(forest.getForestCost(), dynamic.getTotalCost(), "step " + step);
+            assertEquals(forest.getMstEdgeCount(), dynamic.getTreeEdgeCount(), "step " + step);
+        }
+    }
+
+    @Test
+    void testDeletionOnlyScansSmallerSide() {
+        // A path of 2000 vertices plus many non-tree chords among its first half
+        int vertexCount = 2000;
+        List<String> vertices = new ArrayList<>();
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add("V" + i);
+            if (i > 0) edges.add(new Edge("V" + (i - 1), "V" + i, 1));
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < 20000; i++) {
+            int a = random.nextInt(vertexCount / 2);
+            int b = random.nextInt(vertexCount / 2);
+            if (Math.abs(a - b) > 1) edges.add(new Edge("V" + a, "V" + b, 50));
+        }
+        edges.add(new Edge("V" + (vertexCount - 3), "V" + (vertexCount - 1), 60));
+        DynamicMST dynamic = new DynamicMST(Graph.createGraph("test_path", vertices, edges));
+
+        int before = dynamic.toMSTResult().getOperationsCount();
+        assertTrue(dynamic.deleteEdge("V" + (vertexCount - 2), "V" + (vertexCount - 1)));
+        int scanned = dynamic.toMSTResult().getOperationsCount() - before;
+
+        assertTrue(dynamic.isSpanningTree());
+        assertEquals(vertexCount - 2 + 60, dynamic.getTotalCost());
+        assertTrue(scanned < 20, "scanned " + scanned + " items for a one-vertex side");
+    }
+
+    private Graph createGraph() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D");
+        List<Edge> edges = Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("C", "D", 3),
+                new Edge("D", "A", 4),
+                new Edge("A", "C", 5)
+        );
+        return Graph.createGraph("test_dynamic", vertices, edges);
+    }
+}
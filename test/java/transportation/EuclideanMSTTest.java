@@ -0,0 +1,83 @@
+package com.transportation;
+
+import com.transportation.algorithms.EuclideanMST;
+import com.transportation.algorithms.PrimAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+class EuclideanMSTTest {
+
+    @Test
+    void testSquareWithCentre() {
+        List<String> names = Arrays.asList("NW", "NE", "SW", "SE", "CENTRE");
+        double[] x = {0, 10, 0, 10, 5};
+        double[] y = {10, 10, 0, 0, 5};
+
+        MSTResult result = new EuclideanMST(100).findMST(names, x, y);
+
+        // Every corner connects to the centre at distance 5*sqrt(2)
+        assertEquals(4, result.getMstEdgeCount());
+        assertEquals(4 * 707, result.getTotalCost());
+        assertEquals("EuclideanMST", result.getAlgorithm());
+    }
+
+    @Test
+    void testCostBeyondIntRangeFails() {
+        // Each edge fits in an int, their sum does not
+        List<String> names = Arrays.asList("A", "B", "C");
+        double[] x = {0, 1.5e9, 3e9};
+        double[] y = {0, 0, 0};
+
+        assertThrows(IllegalArgumentException.class, () -> new EuclideanMST().findMST(names, x, y));
+        assertEquals(3000, new EuclideanMST(1e-6).findMST(names, x, y).getTotalCost());
+    }
+
+    @Test
+    void testNonFiniteCoordinatesFail() {
+        List<String> names = Arrays.asList("A", "B", "C");
+        double[] x = {0, Double.NaN, 2};
+        double[] y = {0, 0, Double.POSITIVE_INFINITY};
+
+        assertThrows(IllegalArgumentException.class, () -> new EuclideanMST().findMST(names, x, new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> new EuclideanMST().findMST(names, new double[3], y));
+    }
+
+    @Test
+    void testMatchesPrimOnCompleteGraph() {
+        Random random = new Random(11);
+        int count = 150;
+        List<String> names = new ArrayList<>();
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            names.add("D" + i);
+            x[i] = random.nextInt(50);
+            y[i] = random.nextInt(50);
+        }
+
+        // Dense graph with the same integer-rounded distances
+        Graph complete = new Graph("test_complete");
+        names.forEach(complete::addVertex);
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j++) {
+                int weight = (int) Math.rint(Math.hypot(x[i] - x[j], y[i] - y[j]) * 1000);
+                complete.addEdge(new Edge(names.get(i), names.get(j), weight));
+            }
+        }
+
+        MSTResult euclidean = new EuclideanMST(1000).findMST(names, x, y);
+        MSTResult prim = new PrimAlgorithm().findMST(complete);
+
+        assertEquals(count - 1, euclidean.getMstEdgeCount());
+        // Rounding may pick a different tree among near-ties, so allow one unit per edge
+        assertEquals(prim.getTotalCost(), euclidean.getTotalCost(), count);
+    }
+}
@@ -0,0 +1,84 @@
+package com.transportation;
+
+import com.transportation.algorithms.ExternalKruskal;
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ExternalKruskalTest {
+
+    @Test
+    void testExternalMatchesInMemoryKruskal() throws Exception {
+        Random random = new Random(21);
+        int vertexCount = 3000;
+        Graph graph = TestGraphs.randomConnected("test_external", vertexCount, 20000, 0, 99, random);
+
+        File workDir = Files.createTempDirectory("external-kruskal").toFile();
+        String edgeFile = new File(workDir, "edges.bin").getPath();
+        String mstFile = new File(workDir, "mst.bin").getPath();
+        ExternalKruskal.writeEdgeFile(graph, edgeFile);
+
+        // Minimal budget forces many sorted runs
+        ExternalKruskal.Result result = new ExternalKruskal(64 * 1024, workDir).findMST(edgeFile, vertexCount, mstFile);
+
+        assertTrue(result.getRunCount() > 1);
+        assertTrue(result.isSpanning());
+        assertEquals(vertexCount - 1, result.getMstEdgeCount());
+        assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), result.getTotalCost());
+
+        List<Edge> mstEdges = ExternalKruskal.readEdgeFile(mstFile, graph.getVertices());
+        assertEquals(result.getTotalCost(), mstEdges.stream().mapToLong(Edge::getWeight).sum());
+
+        // Only the input and the tree are left behind
+        assertEquals(2, workDir.list().length);
+        for (File file : workDir.listFiles()) {
+            file.delete();
+        }
+        workDir.delete();
+    }
+
+    @Test
+    void testInterruptedSortLeavesNoRuns() throws Exception {
+        Graph graph = TestGraphs.randomConnected("test_interrupted", 20000, 400000, 0, 99, new Random(40));
+        File workDir = Files.createTempDirectory("external-kruskal").toFile();
+        String edgeFile = new File(workDir, "edges.bin").getPath();
+        String mstFile = new File(workDir, "mst.bin").getPath();
+        ExternalKruskal.writeEdgeFile(graph, edgeFile);
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                new ExternalKruskal(64 * 1024, workDir).findMST(edgeFile, graph.getVertexCount(), mstFile);
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        caller.start();
+        // Interrupt once the first runs exist, while hundreds of chunks are still being sorted
+        while (caller.isAlive() && workDir.list().length < 3) {
+            Thread.onSpinWait();
+        }
+        caller.interrupt();
+        caller.join();
+
+        if (failure.get() != null) {
+            assertTrue(failure.get() instanceof InterruptedIOException, failure.get().toString());
+            assertArrayEquals(new String[]{"edges.bin"}, workDir.list());
+        } else {
+            assertEquals(2, workDir.list().length);
+        }
+        for (File file : workDir.listFiles()) {
+            file.delete();
+        }
+        workDir.delete();
+    }
+}
@@ -0,0 +1,82 @@
+package com.transportation;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.utils.GraphBinaryCodec;
+import com.transportation.utils.GraphCorpus;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+class GraphCorpusTest {
+
+    @Test
+    void testCorpusRoundTripAndSelection() throws Exception {
+        Graph small = Graph.createGraph("small_1", Arrays.asList("A", "B", "C"), Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2)
+        ));
+        Graph large = Graph.createGraph("xlarge_1", Arrays.asList("1", "2", "3", "4"), Arrays.asList(
+                new Edge("1", "2", 7),
+                new Edge("2", "3", 8),
+                new Edge("3", "4", 9),
+                new Edge("4", "1", 10)
+        ));
+
+        File file = File.createTempFile("graphs", ".corpus");
+        file.deleteOnExit();
+        GraphCorpus.write(Arrays.asList(small, large), file.getPath());
+
+        try (GraphCorpus corpus = GraphCorpus.open(file.getPath())) {
+            assertEquals(2, corpus.size());
+
+            // Index is available without loading graphs
+            GraphCorpus.Entry entry = corpus.getEntry("xlarge_1");
+            assertEquals("extra-large", entry.getCategory());
+            assertEquals(4, entry.getVertexCount());
+            assertEquals(4, entry.getEdgeCount());
+
+            List<GraphCorpus.Entry> selection = corpus.getCategory("small");
+            assertEquals(1, selection.size());
+            assertEquals("small_1", selection.get(0).getId());
+
+            // Load on demand
+            Graph loaded = corpus.load("xlarge_1");
+            assertEquals(4, loaded.getVertexCount());
+            assertEquals(4, loaded.getEdgeCount());
+            assertTrue(loaded.containsEdge("4", "1"));
+            assertTrue(loaded.isConnected());
+            assertTrue(loaded.hasSortedEdgeIndex());
+        }
+    }
+
+    @Test
+    void testCompressedCorpusAndBinaryFiles() throws Exception {
+        Graph graph = Graph.createGraph("medium_1", Arrays.asList("A", "B", "C", "D"), Arrays.asList(
+                new Edge("A", "B", 3),
+                new Edge("B", "C", 1),
+                new Edge("C", "D", 4),
+                new Edge("D", "A", 2)
+        ));
+
+        // Per-graph deflate keeps the corpus seekable
+        File corpusFile = File.createTempFile("graphs", ".corpus.deflate");
+        corpusFile.deleteOnExit();
+        GraphCorpus.write(Arrays.asList(graph), corpusFile.getPath());
+        try (GraphCorpus corpus = GraphCorpus.open(corpusFile.getPath())) {
+            assertTrue(corpus.isDeflated());
+            assertEquals(4, corpus.load("medium_1").getEdgeCount());
+        }
+
+        // Whole-file gzip decompressed on a background thread
+        File binaryFile = File.createTempFile("graphs", ".bin.gz");
+        binaryFile.deleteOnExit();
+        GraphBinaryCodec.writeGraphsToFile(Arrays.asList(graph, graph), binaryFile.getPath());
+        List<Graph> loaded = GraphBinaryCodec.readGraphsFromFile(binaryFile.getPath());
+        assertEquals(2, loaded.size());
+        assertTrue(loaded.get(1).containsEdge("B", "C"));
+    }
+}
@@ -0,0 +1,131 @@
+package com.transportation;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.PrimAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.GraphResult;
+import com.transportation.model.MSTResult;
+import com.transportation.utils.JSONFileHandler;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+class JSONFileHandlerTest {
+
+    private List<Graph> createGraphs() {
+        Graph connected = Graph.createGraph("small_1", Arrays.asList("A", "B", "C", "D"), Arrays.asList(
+                new Edge("A", "B", 4), new Edge("B", "C", 2), new Edge("C", "D", 7), new Edge("A", "D", 1)));
+        Graph disconnected = Graph.createGraph("medium_2", Arrays.asList("A", "B", "C"),
+                Collections.singletonList(new Edge("A", "B", 3)));
+        return Arrays.asList(connected, disconnected, new Graph("large_empty"));
+    }
+
+    private GraphResult toResult(Graph graph, MSTResult prim, MSTResult kruskal) {
+        String category = graph.getId().substring(0, graph.getId().indexOf('_'));
+        return new GraphResult(graph.getId(), graph.getVertexCount(), graph.getEdgeCount(), category,
+                graph.getDensity(), graph.isConnected(), prim, kruskal, true);
+    }
+
+    // The nested-map result and Double conversion the typed export replaced
+    private Map<String, Object> toLegacyMap(Graph graph, MSTResult prim, MSTResult kruskal) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("graph_id", graph.getId());
+        result.put("vertex_count", (double) graph.getVertexCount());
+        result.put("edge_count", (double) graph.getEdgeCount());
+        result.put("category", graph.getId().substring(0, graph.getId().indexOf('_')));
+        result.put("graph_density", graph.getDensity());
+        result.put("is_connected", graph.isConnected());
+        result.put("prim", toLegacyMap(prim));
+        result.put("kruskal", toLegacyMap(kruskal));
+        result.put("costs_consistent", prim.getTotalCost() == kruskal.getTotalCost());
+        return result;
+    }
+
+    private Map<String, Object> toLegacyMap(MSTResult result) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("total_cost", (double) result.getTotalCost());
+        data.put("execution_time_ms", (double) result.getExecutionTimeMs());
+        data.put("operations_count", (double) result.getOperationsCount());
+        data.put("mst_edges_count", (double) result.getMstEdgeCount());
+        return data;
+    }
+
+    @Test
+    void testStreamedResultsMatchLegacyMapOutput() throws IOException {
+        List<GraphResult> results = new ArrayList<>();
+        List<Map<String, Object>> legacyResults = new ArrayList<>();
+        for (Graph graph : createGraphs()) {
+            MSTResult prim = new PrimAlgorithm().findMST(graph);
+            MSTResult kruskal = new KruskalAlgorithm().findMST(graph);
+            results.add(toResult(graph, prim, kruskal));
+            legacyResults.add(toLegacyMap(graph, prim, kruskal));
+        }
+        Map<String, Object> legacy = new HashMap<>();
+        legacy.put("results", legacyResults);
+        legacy.put("total_graphs", (double) legacyResults.size());
+
+        File file = File.createTempFile("output", ".json");
+        file.deleteOnExit();
+        JSONFileHandler.writeResultsToFile(results, file.getPath());
+        String streamed = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+
+        JsonObject actual = JsonParser.parseString(streamed).getAsJsonObject();
+        assertNotNull(actual.remove("timestamp"));
+        for (JsonElement result : actual.getAsJsonArray("results")) {
+            // Added with MST verification, absent from the map-based output
+            assertTrue(result.getAsJsonObject().remove("mst_verified").getAsBoolean());
+        }
+        JsonElement expected = JsonParser.parseString(new GsonBuilder().create().toJson(legacy));
+        // Numbers compare by value, so 4 and 4.0 match
+        assertEquals(expected, actual);
+
+        // Integer fields are no longer written as doubles
+        assertTrue(streamed.contains("\"vertex_count\": 4,"));
+        assertFalse(streamed.contains("\"vertex_count\": 4.0"));
+    }
+
+    @Test
+    void testResultWithoutPrimOmitsComparison() throws IOException {
+        Graph graph = createGraphs().get(0);
+        File file = File.createTempFile("output", ".json");
+        file.deleteOnExit();
+        JSONFileHandler.writeResultsToFile(Collections.singletonList(
+                toResult(graph, null, new KruskalAlgorithm().findMST(graph))), file.getPath());
+
+        String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        JsonObject result = JsonParser.parseString(json).getAsJsonObject()
+                .getAsJsonArray("results").get(0).getAsJsonObject();
+
+        assertFalse(result.has("prim"));
+        assertFalse(result.has("costs_consistent"));
+        assertEquals(7, result.getAsJsonObject("kruskal").get("total_cost").getAsInt());
+        assertTrue(result.get("mst_verified").getAsBoolean());
+    }
+
+    @Test
+    void testGraphFileRoundTrip() throws IOException {
+        List<Graph> graphs = createGraphs();
+        File file = File.createTempFile("input", ".json");
+        file.deleteOnExit();
+        JSONFileHandler.writeGraphsToFile(graphs, file.getPath());
+
+        List<Graph> read = JSONFileHandler.readGraphsFromFile(file.getPath());
+
+        assertEquals(graphs.size(), read.size());
+        for (int i = 0; i < graphs.size(); i++) {
+            assertEquals(graphs.get(i).getId(), read.get(i).getId());
+            assertEquals(graphs.get(i).getVertexCount(), read.get(i).getVertexCount());
+            assertEquals(new HashSet<>(graphs.get(i).getEdges()), new HashSet<>(read.get(i).getEdges()));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.transportation;
+
+import com.transportation.algorithms.KKTAlgorithm;
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+class KKTAlgorithmTest {
+
+    @Test
+    void testKKTWithSmallGraph() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D");
+        List<Edge> edges = Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("C", "D", 3),
+                new Edge("D", "A", 4),
+                new Edge("A", "C", 5)
+        );
+
+        MSTResult result = new KKTAlgorithm(1).findMST(Graph.createGraph("test_small", vertices, edges));
+
+        assertEquals(3, result.getMstEdgeCount());
+        assertEquals(6, result.getTotalCost());
+        assertEquals("KKT", result.getAlgorithm());
+    }
+
+    @Test
+    void testKKTMatchesKruskalOnLargeGraphs() {
+        Random random = new Random(42);
+        for (int round = 0; round < 5; round++) {
+            // Large enough to go through the sampling and filtering levels
+            int vertexCount = 500;
+            Graph graph = TestGraphs.randomConnected("test_random_" + round, vertexCount, 3000, 0, 19, random);
+
+            MSTResult kkt = new KKTAlgorithm(round).findMST(graph);
+            MSTResult kruskal = new KruskalAlgorithm().findMST(graph);
+
+            assertEquals(kruskal.getTotalCost(), kkt.getTotalCost());
+            assertEquals(vertexCount - 1, kkt.getMstEdgeCount());
+        }
+    }
+
+    @Test
+    void testKKTWithDisconnectedGraph() {
+        Graph graph = Graph.createGraph("test_disconnected", Arrays.asList("A", "B", "C", "D"),
+                Arrays.asList(new Edge("A", "B", 1), new Edge("C", "D", 2)));
+
+        MSTResult result = new KKTAlgorithm().findMST(graph);
+
+        assertEquals(Integer.MAX_VALUE, result.getTotalCost());
+        assertEquals(0, result.getMstEdgeCount());
+    }
+}
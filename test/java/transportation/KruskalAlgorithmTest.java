@@ -99,4 +99,34 @@ class KruskalAlgorithmTest {
         assertEquals(15, result.getTotalCost());
         assertEquals(3, result.getMstEdgeCount());
     }
+
+    @Test
+    void testKruskalReusesSortedEdgeIndex() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D");
+        List<Edge> edges = Arrays.asList(
+                new Edge("A", "B", 4),
+                new Edge("B", "C", 3),
+                new Edge("C", "D", 2),
+                new Edge("D", "A", 1)
+        );
+
+        Graph graph = Graph.createGraph("test_index", vertices, edges);
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+
+        // Solving does not attach an index to the caller's graph
+        MSTResult first = kruskal.findMST(graph);
+        assertFalse(graph.hasSortedEdgeIndex());
+
+        // Once built explicitly, the solve skips the sort
+        graph.buildSortedEdgeIndex();
+        assertTrue(graph.hasSortedEdgeIndex());
+        MSTResult second = kruskal.findMST(graph);
+        assertEquals(first.getTotalCost(), second.getTotalCost());
+        assertEquals(first.getOperationsCount() - graph.getEdgeCount(), second.getOperationsCount());
+
+        // Mutation invalidates the index
+        graph.addEdge(new Edge("A", "C", 0));
+        assertFalse(graph.hasSortedEdgeIndex());
+        assertEquals(4, kruskal.findMST(graph).getTotalCost());
+    }
 }
\ No newline at end of file
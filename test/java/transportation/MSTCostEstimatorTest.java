@@ -0,0 +1,33 @@
+package com.transportation;
+
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.MSTCostEstimator;
+import com.transportation.model.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+class MSTCostEstimatorTest {
+
+    @Test
+    void testEstimateWithinAccuracyOfKruskal() {
+        Random random = new Random(8);
+        Graph graph = TestGraphs.randomConnected("test_estimate", 2000, 6000, 1, 20, random);
+
+        int exact = new KruskalAlgorithm().findMST(graph).getTotalCost();
+        MSTCostEstimator.Estimate estimate = new MSTCostEstimator(0.05, 0.95, new Random(1)).estimate(graph, 20);
+
+        assertTrue(estimate.getThresholds() > 0);
+        assertTrue(estimate.relativeError(exact) < 0.1,
+                "estimate " + estimate.getEstimatedCost() + " vs exact " + exact);
+    }
+
+    @Test
+    void testTrivialGraphs() {
+        Graph single = new Graph("test_single");
+        single.addVertex("A");
+        assertEquals(0.0, new MSTCostEstimator(0.1, 0.9).estimate(single, 10).getEstimatedCost(), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> new MSTCostEstimator(1.5, 0.9));
+    }
+}
@@ -0,0 +1,51 @@
+package com.transportation;
+
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.MSTSensitivityAnalysis;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class MSTSensitivityAnalysisTest {
+
+    @Test
+    void testToleranceOfEveryEdge() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D", "E");
+        List<Edge> edges = Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("C", "D", 3),
+                new Edge("D", "A", 4),
+                new Edge("A", "C", 5),
+                new Edge("D", "E", 6)
+        );
+        Graph graph = Graph.createGraph("test_sensitivity", vertices, edges);
+
+        Map<String, MSTSensitivityAnalysis.EdgeSensitivity> byEdge = new HashMap<>();
+        for (MSTSensitivityAnalysis.EdgeSensitivity sensitivity :
+                new MSTSensitivityAnalysis().analyze(graph, new KruskalAlgorithm().findMST(graph))) {
+            byEdge.put(sensitivity.getEdge().getId(), sensitivity);
+        }
+
+        assertEquals(6, byEdge.size());
+
+        // MST: A-B(1), B-C(2), C-D(3), D-E(6)
+        assertTrue(byEdge.get("A-B").isTreeEdge());
+        assertEquals(3, byEdge.get("A-B").getTolerance()); // replaced by D-A(4)
+        assertEquals(2, byEdge.get("B-C").getTolerance()); // replaced by D-A(4)
+        assertEquals(1, byEdge.get("C-D").getTolerance()); // replaced by D-A(4)
+        assertTrue(byEdge.get("D-E").isBridge());
+        assertEquals(Integer.MAX_VALUE, byEdge.get("D-E").getTolerance());
+
+        // Non-tree edges enter the tree once cheaper than their path maximum
+        assertFalse(byEdge.get("A-D").isTreeEdge());
+        assertEquals(1, byEdge.get("A-D").getTolerance());
+        assertEquals(3, byEdge.get("A-C").getTolerance());
+    }
+}
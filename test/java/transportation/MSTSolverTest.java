@@ -0,0 +1,54 @@
+package com.transportation;
+
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.MSTAlgorithm;
+import com.transportation.algorithms.MSTSolver;
+import com.transportation.algorithms.PrimAlgorithm;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+class MSTSolverTest {
+
+    private Graph randomGraph(String id, int vertexCount, int extraEdges, long seed) {
+        return TestGraphs.randomConnected(id, vertexCount, extraEdges, 1, 100, new Random(seed));
+    }
+
+    @Test
+    void testSolverCalibratesAndPersistsProfile() throws Exception {
+        File dir = Files.createTempDirectory("mst_solver").toFile();
+        String profilePath = new File(dir, "profile.properties").getPath();
+        List<MSTAlgorithm> candidates = Arrays.asList(new KruskalAlgorithm(), new PrimAlgorithm());
+        Graph graph = randomGraph("test_solver", 300, 1500, 45);
+        String shape = MSTSolver.shapeOf(graph);
+
+        MSTSolver solver = new MSTSolver(candidates, profilePath);
+        MSTResult result = solver.findMST(graph);
+        solver.save();
+
+        assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), result.getTotalCost());
+        assertFalse(Double.isNaN(solver.getCost(shape, "Kruskal")));
+        assertFalse(Double.isNaN(solver.getCost(shape, "Prim")));
+
+        // A new solver starts from the saved profile and makes the same choice without probing
+        MSTSolver reloaded = new MSTSolver(candidates, profilePath);
+        assertEquals(solver.getCost(shape, "Kruskal"), reloaded.getCost(shape, "Kruskal"), 0.0);
+        assertEquals(solver.choose(graph).getName(), reloaded.choose(graph).getName());
+    }
+
+    @Test
+    void testShapeSeparatesDensities() {
+        Graph sparse = randomGraph("test_sparse", 200, 0, 1);
+        Graph dense = randomGraph("test_dense", 200, 8000, 1);
+
+        assertNotEquals(MSTSolver.shapeOf(sparse), MSTSolver.shapeOf(dense));
+        assertThrows(IllegalArgumentException.class, () -> new MSTSolver(Arrays.asList(), "unused.properties"));
+    }
+}
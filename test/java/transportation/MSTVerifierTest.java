@@ -0,0 +1,79 @@
+package com.transportation;
+
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.MSTVerifier;
+import com.transportation.algorithms.PrimAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class MSTVerifierTest {
+
+    private final MSTVerifier verifier = new MSTVerifier();
+
+    @Test
+    void testAlgorithmResultsAreCertified() {
+        Graph graph = createGraph();
+
+        assertTrue(verifier.verify(graph, new KruskalAlgorithm().findMST(graph)).isValid());
+        assertTrue(verifier.verify(graph, new PrimAlgorithm().findMST(graph)).isValid());
+    }
+
+    @Test
+    void testNonMinimalTreeIsRejected() {
+        Graph graph = createGraph();
+        // Spanning but uses D-A(4) instead of C-D(3)
+        List<Edge> tree = Arrays.asList(new Edge("A", "B", 1), new Edge("B", "C", 2), new Edge("D", "A", 4));
+        MSTResult result = new MSTResult("Manual", tree, 7, 0, 0, 4, 5);
+
+        MSTVerifier.Verification verification = verifier.verify(graph, result);
+
+        assertFalse(verification.isValid());
+        assertTrue(verification.getMessage().contains("C --3--> D"));
+    }
+
+    @Test
+    void testStructuralErrorsAreRejected() {
+        Graph graph = createGraph();
+
+        // Wrong cost
+        List<Edge> tree = Arrays.asList(new Edge("A", "B", 1), new Edge("B", "C", 2), new Edge("C", "D", 3));
+        assertFalse(verifier.verify(graph, new MSTResult("Manual", tree, 5, 0, 0, 4, 5)).isValid());
+
+        // Cycle instead of a spanning tree
+        List<Edge> cycle = Arrays.asList(new Edge("A", "B", 1), new Edge("B", "C", 2), new Edge("A", "C", 5));
+        assertFalse(verifier.verify(graph, new MSTResult("Manual", cycle, 8, 0, 0, 4, 5)).isValid());
+
+        // Edge that is not in the graph
+        List<Edge> foreign = Arrays.asList(new Edge("A", "B", 1), new Edge("B", "D", 1), new Edge("C", "D", 3));
+        assertFalse(verifier.verify(graph, new MSTResult("Manual", foreign, 5, 0, 0, 4, 5)).isValid());
+    }
+
+    @Test
+    void testDisconnectedGraphWithoutTree() {
+        Graph graph = Graph.createGraph("test_disconnected", Arrays.asList("A", "B", "C", "D"),
+                Arrays.asList(new Edge("A", "B", 1), new Edge("C", "D", 2)));
+
+        assertTrue(verifier.verify(graph, new KruskalAlgorithm().findMST(graph)).isValid());
+        assertFalse(verifier.verify(createGraph(),
+                new MSTResult("Manual", Collections.emptyList(), Integer.MAX_VALUE, 0, 0, 4, 5)).isValid());
+    }
+
+    private Graph createGraph() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D");
+        List<Edge> edges = Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("C", "D", 3),
+                new Edge("D", "A", 4),
+                new Edge("A", "C", 5)
+        );
+        return Graph.createGraph("test_verifier", vertices, edges);
+    }
+}
@@ -0,0 +1,81 @@
+package com.transportation;
+
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.MultilevelMSTAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class MultilevelMSTAlgorithmTest {
+
+    @Test
+    void testContractionMatchesKruskal() {
+        Random random = new Random(47);
+        int vertexCount = 4000;
+        Graph graph = TestGraphs.randomConnected("test_multilevel", vertexCount, 12000, 1, 5, random);
+
+        // A threshold of 0 contracts all the way down to one supernode
+        MultilevelMSTAlgorithm.Result result = new MultilevelMSTAlgorithm(0).findMST(graph);
+
+        assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), result.getTotalCost());
+        assertEquals(vertexCount - 1, result.getMstEdgeCount());
+
+        List<MultilevelMSTAlgorithm.Level> levels = result.getLevels();
+        assertEquals(1, levels.get(levels.size() - 1).getVertices());
+        for (int i = 1; i < levels.size(); i++) {
+            assertTrue(levels.get(i).getVertices() <= levels.get(i - 1).getVertices() / 2);
+            assertTrue(levels.get(i).getEdges() <= levels.get(i - 1).getEdges());
+        }
+    }
+
+    @Test
+    void testSharedInstanceReportsLevelsPerCall() throws Exception {
+        MultilevelMSTAlgorithm shared = new MultilevelMSTAlgorithm(0);
+        Random random = new Random(470);
+        List<Graph> graphs = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            graphs.add(TestGraphs.randomConnected("test_shared_" + i, 500 + 250 * i, 2000, 1, 9, random));
+        }
+
+        List<Future<MultilevelMSTAlgorithm.Result>> futures = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (Graph graph : graphs) {
+                futures.add(executor.submit(() -> shared.findMST(graph)));
+            }
+            for (int i = 0; i < graphs.size(); i++) {
+                List<MultilevelMSTAlgorithm.Level> levels = futures.get(i).get().getLevels();
+                assertEquals(graphs.get(i).getVertexCount(), levels.get(0).getVertices());
+                assertEquals(graphs.get(i).getEdgeCount(), levels.get(0).getEdges());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testMultilevelWithDisconnectedGraph() {
+        Graph graph = Graph.createGraph("test_disconnected", Arrays.asList("A", "B", "C", "D", "E"),
+                Arrays.asList(new Edge("A", "B", 1), new Edge("C", "D", 2), new Edge("D", "E", 3)));
+
+        MSTResult result = new MultilevelMSTAlgorithm(0).findMST(graph);
+
+        assertEquals(Integer.MAX_VALUE, result.getTotalCost());
+        assertEquals(0, result.getMstEdgeCount());
+    }
+
+    @Test
+    void testRejectsNegativeThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new MultilevelMSTAlgorithm(-1));
+    }
+}
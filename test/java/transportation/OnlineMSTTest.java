@@ -0,0 +1,66 @@
+package com.transportation;
+
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.OnlineMST;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+class OnlineMSTTest {
+
+    @Test
+    void testIteratorStream() {
+        List<Edge> edges = Arrays.asList(
+                new Edge("A", "B", 5),
+                new Edge("B", "C", 4),
+                new Edge("A", "C", 1),  // replaces A-B(5)
+                new Edge("C", "D", 3),
+                new Edge("B", "D", 2)   // replaces B-C(4)
+        );
+
+        OnlineMST online = new OnlineMST();
+        online.addAll(edges.iterator());
+
+        assertEquals(6, online.getTotalCost());
+        assertEquals(3, online.getTreeEdgeCount());
+        assertTrue(online.isSpanningTree());
+        assertEquals(5, online.getProcessedEdgeCount());
+        assertEquals(6, online.toMSTResult().getTotalCost());
+    }
+
+    @Test
+    void testResultCostSaturatesInsteadOfWrapping() {
+        OnlineMST online = new OnlineMST();
+        online.addEdge(new Edge("A", "B", 2_000_000_000));
+        online.addEdge(new Edge("B", "C", 2_000_000_000));
+
+        assertEquals(4_000_000_000L, online.getTotalCost());
+        assertEquals(Integer.MAX_VALUE, online.toMSTResult().getTotalCost());
+    }
+
+    @Test
+    void testPublisherMatchesKruskal() throws Exception {
+        Random random = new Random(3);
+        Graph graph = TestGraphs.randomConnected("test_stream", 200, 3000, 0, 999, random);
+
+        OnlineMST online = new OnlineMST();
+        try (SubmissionPublisher<Edge> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(online);
+            for (Edge edge : graph.getEdges()) {
+                publisher.submit(edge);
+            }
+        }
+
+        assertTrue(online.awaitCompletion(30, TimeUnit.SECONDS));
+        assertNull(online.getError());
+        assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), online.getTotalCost());
+        assertEquals(graph.getVertexCount() - 1, online.snapshot().size());
+    }
+}
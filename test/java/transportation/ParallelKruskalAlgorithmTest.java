@@ -0,0 +1,54 @@
+package com.transportation;
+
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.ParallelKruskalAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+class ParallelKruskalAlgorithmTest {
+
+    @Test
+    void testSameTreeAsKruskalAcrossBatches() {
+        Random random = new Random(44);
+        // Enough edges for several growing batches
+        Graph graph = TestGraphs.randomConnected("test_parallel_kruskal", 5000, 30000, 1, 50, random);
+
+        MSTResult expected = new KruskalAlgorithm().findMST(graph);
+        MSTResult result = new ParallelKruskalAlgorithm().findMST(graph);
+
+        assertEquals(expected.getTotalCost(), result.getTotalCost());
+        assertEquals(expected.getMstEdges(), result.getMstEdges());
+        assertEquals("ParallelKruskal", result.getAlgorithm());
+    }
+
+    @Test
+    void testSortedEdgesMatchStableSort() {
+        Graph graph = Graph.createGraph("test_ties", Arrays.asList("A", "B", "C", "D"),
+                Arrays.asList(new Edge("C", "D", 2), new Edge("A", "B", 1),
+                        new Edge("B", "C", 2), new Edge("A", "D", 1)));
+
+        List<Edge> expected = graph.getEdges();
+        Collections.sort(expected);
+
+        assertEquals(expected, graph.getSortedEdges());
+    }
+
+    @Test
+    void testParallelKruskalWithDisconnectedGraph() {
+        Graph graph = Graph.createGraph("test_disconnected", Arrays.asList("A", "B", "C", "D"),
+                Arrays.asList(new Edge("A", "B", 1), new Edge("C", "D", 2)));
+
+        MSTResult result = new ParallelKruskalAlgorithm().findMST(graph);
+
+        assertEquals(Integer.MAX_VALUE, result.getTotalCost());
+        assertEquals(0, result.getMstEdgeCount());
+    }
+}
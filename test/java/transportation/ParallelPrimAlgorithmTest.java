@@ -0,0 +1,48 @@
+package com.transportation;
+
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.MSTVerifier;
+import com.transportation.algorithms.ParallelPrimAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+class ParallelPrimAlgorithmTest {
+
+    @Test
+    void testCostMatchesKruskal() {
+        Random random = new Random(43);
+        int vertexCount = 3000;
+        Graph graph = TestGraphs.randomConnected("test_parallel", vertexCount, 9000, 1, 10, random);
+
+        int expected = new KruskalAlgorithm().findMST(graph).getTotalCost();
+        // Few distinct weights, so ties between colliding trees are common
+        for (int parallelism : new int[]{1, 4, 16}) {
+            MSTResult result = new ParallelPrimAlgorithm(parallelism).findMST(graph);
+
+            assertEquals(expected, result.getTotalCost());
+            assertTrue(new MSTVerifier().verify(graph, result).isValid());
+        }
+    }
+
+    @Test
+    void testParallelPrimWithDisconnectedGraph() {
+        Graph graph = Graph.createGraph("test_disconnected", Arrays.asList("A", "B", "C", "D"),
+                Arrays.asList(new Edge("A", "B", 1), new Edge("C", "D", 2)));
+
+        MSTResult result = new ParallelPrimAlgorithm(2).findMST(graph);
+
+        assertEquals(Integer.MAX_VALUE, result.getTotalCost());
+        assertEquals(0, result.getMstEdgeCount());
+    }
+
+    @Test
+    void testRejectsInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelPrimAlgorithm(0));
+    }
+}
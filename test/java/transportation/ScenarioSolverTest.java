@@ -0,0 +1,83 @@
+package com.transportation;
+
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.ScenarioSolver;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import com.transportation.model.WeightOverlay;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class ScenarioSolverTest {
+
+    // Square A-B-C-D with tree A-B(1), B-C(2), C-D(3) and non-tree D-A(4), A-C(5)
+    private Graph squareGraph() {
+        return Graph.createGraph("test_square", Arrays.asList("A", "B", "C", "D"), Arrays.asList(
+                new Edge("A", "B", 1), new Edge("B", "C", 2), new Edge("C", "D", 3),
+                new Edge("D", "A", 4), new Edge("A", "C", 5)));
+    }
+
+    @Test
+    void testSwapAndIncreasedTreeEdge() {
+        Graph base = squareGraph();
+        ScenarioSolver solver = new ScenarioSolver(base);
+
+        // Cheaper non-tree edge swaps out C-D
+        MSTResult swapped = solver.solve(new WeightOverlay("cheap_da", base).setWeight("D", "A", 2));
+        assertEquals(5, swapped.getTotalCost());
+        assertTrue(swapped.getMstEdges().stream().anyMatch(e -> e.getId().equals("A-D")));
+
+        // Dearer tree edge is replaced by the lightest edge across its cut
+        MSTResult replaced = solver.solve(new WeightOverlay("dear_bc", base).setWeight("B", "C", 10));
+        assertEquals(8, replaced.getTotalCost());
+
+        // The base graph itself is untouched
+        assertEquals(6, new KruskalAlgorithm().findMST(base).getTotalCost());
+    }
+
+    @Test
+    void testParallelScenariosMatchFullRecomputation() {
+        Random random = new Random(48);
+        Graph base = TestGraphs.randomConnected("test_scenarios", 500, 1500, 1, 20, random);
+
+        List<Edge> edges = base.getEdges();
+        List<WeightOverlay> overlays = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            WeightOverlay overlay = new WeightOverlay("s" + i, base);
+            for (int c = 0; c <= i % 5; c++) {
+                Edge edge = edges.get(random.nextInt(edges.size()));
+                overlay.setWeight(edge.getSource(), edge.getDestination(), random.nextInt(40));
+            }
+            overlays.add(overlay);
+        }
+
+        Map<String, MSTResult> results = new ScenarioSolver(base).solveAll(overlays);
+
+        assertEquals(overlays.size(), results.size());
+        for (WeightOverlay overlay : overlays) {
+            assertEquals(new KruskalAlgorithm().findMST(overlay.toGraph()).getTotalCost(),
+                    results.get(overlay.getName()).getTotalCost(), overlay.getName());
+        }
+    }
+
+    @Test
+    void testOverlayValidation() {
+        Graph base = squareGraph();
+        WeightOverlay overlay = new WeightOverlay("checks", base).setWeight("A", "B", 7);
+        WeightOverlay derived = overlay.derive("derived").reset("B", "A");
+
+        assertEquals(1, overlay.getChangeCount());
+        assertEquals(0, derived.getChangeCount());
+        assertThrows(IllegalArgumentException.class, () -> overlay.setWeight("B", "D", 1));
+        assertThrows(IllegalArgumentException.class, () -> overlay.setWeight("A", "B", -1));
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioSolver(base)
+                .solveAll(Arrays.asList(overlay, overlay)));
+    }
+}
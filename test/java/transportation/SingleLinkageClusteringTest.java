@@ -0,0 +1,67 @@
+package com.transportation;
+
+import com.transportation.algorithms.SingleLinkageClustering;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+class SingleLinkageClusteringTest {
+
+    @Test
+    void testClustersAtKAndThreshold() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D", "E", "F");
+        List<Edge> edges = Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("D", "E", 1),
+                new Edge("E", "F", 3),
+                new Edge("C", "D", 10),
+                new Edge("A", "F", 12)
+        );
+        SingleLinkageClustering clustering = new SingleLinkageClustering(
+                Graph.createGraph("test_clusters", vertices, edges));
+
+        assertEquals(5, clustering.getMergeCount());
+        assertEquals(1, clustering.getMinimumClusterCount());
+
+        // Two zones: {A,B,C} and {D,E,F}
+        int[] labels = clusteringLabels(clustering, 2);
+        assertEquals(labels[index(clustering, "A")], labels[index(clustering, "C")]);
+        assertEquals(labels[index(clustering, "D")], labels[index(clustering, "F")]);
+        assertNotEquals(labels[index(clustering, "A")], labels[index(clustering, "D")]);
+
+        // Threshold 2 keeps E-F(3) cut: {A,B,C}, {D,E}, {F}
+        assertEquals(3, clustering.getClusterCountAtThreshold(2));
+        int[] byThreshold = clustering.clustersAtThreshold(2);
+        assertEquals(byThreshold[index(clustering, "D")], byThreshold[index(clustering, "E")]);
+        assertNotEquals(byThreshold[index(clustering, "E")], byThreshold[index(clustering, "F")]);
+
+        assertEquals(6, clustering.getClusterCountAtThreshold(0));
+        assertEquals(1, clustering.getClusterCountAtThreshold(10));
+    }
+
+    @Test
+    void testDisconnectedNetwork() {
+        SingleLinkageClustering clustering = new SingleLinkageClustering(Graph.createGraph("test_islands",
+                Arrays.asList("A", "B", "C", "D"),
+                Arrays.asList(new Edge("A", "B", 5), new Edge("C", "D", 2))));
+
+        assertEquals(2, clustering.getMinimumClusterCount());
+        assertEquals(2, clustering.getClusterCountAtThreshold(100));
+        assertThrows(IllegalArgumentException.class, () -> clustering.clustersAt(1));
+    }
+
+    private int[] clusteringLabels(SingleLinkageClustering clustering, int k) {
+        int[] labels = clustering.clustersAt(k);
+        assertEquals(k, Arrays.stream(labels).max().getAsInt() + 1);
+        return labels;
+    }
+
+    private int index(SingleLinkageClustering clustering, String vertex) {
+        return clustering.getVertices().indexOf(vertex);
+    }
+}
@@ -0,0 +1,77 @@
+package com.transportation;
+
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.SpanningForestAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import com.transportation.model.SpanningForestResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+class SpanningForestTest {
+
+    @Test
+    void testForestOfDisconnectedIslands() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D", "E", "F", "G");
+        List<Edge> edges = Arrays.asList(
+                // Island 1: MST cost 3
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("A", "C", 4),
+                // Island 2: MST cost 7
+                new Edge("D", "E", 7),
+                // Island 3: F-G
+                new Edge("F", "G", 5)
+        );
+        Graph graph = Graph.createGraph("test_islands", vertices, edges);
+
+        SpanningForestResult forest = new SpanningForestAlgorithm().findSpanningForest(graph);
+
+        assertEquals(3, forest.getComponentCount());
+        assertFalse(forest.isSpanningTree());
+        assertEquals(15, forest.getForestCost());
+        assertEquals(15, forest.getTotalCost());
+        assertEquals(4, forest.getMstEdgeCount()); // V - components
+        assertEquals(Integer.MAX_VALUE, new KruskalAlgorithm().findMST(graph).getTotalCost());
+
+        long componentSum = 0;
+        for (MSTResult component : forest.getComponentResults()) {
+            componentSum += component.getTotalCost();
+        }
+        assertEquals(15, componentSum);
+    }
+
+    @Test
+    void testConnectedGraphMatchesKruskal() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D");
+        List<Edge> edges = Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("C", "D", 3),
+                new Edge("D", "A", 4),
+                new Edge("A", "C", 5)
+        );
+        Graph graph = Graph.createGraph("test_connected", vertices, edges);
+
+        SpanningForestResult forest = new SpanningForestAlgorithm().findSpanningForest(graph);
+
+        assertTrue(forest.isSpanningTree());
+        assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), forest.getTotalCost());
+    }
+
+    @Test
+    void testForestCostDoesNotOverflow() {
+        Graph graph = Graph.createGraph("test_heavy", Arrays.asList("A", "B", "C", "D"),
+                Arrays.asList(new Edge("A", "B", Integer.MAX_VALUE - 1),
+                        new Edge("C", "D", Integer.MAX_VALUE - 1)));
+
+        SpanningForestResult forest = new SpanningForestAlgorithm().findSpanningForest(graph);
+
+        assertEquals(2L * (Integer.MAX_VALUE - 1), forest.getForestCost());
+        assertEquals(Integer.MAX_VALUE, forest.getTotalCost());
+    }
+}
@@ -0,0 +1,40 @@
+package com.transportation;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+
+import java.util.Random;
+
+/**
+ * Random graph fixtures shared by the engine tests
+ */
+final class TestGraphs {
+
+    private TestGraphs() {
+    }
+
+    /**
+     * Builds a connected graph on V0..V(n-1): a random spanning tree plus up
+     * to extraEdges random edges, weights drawn from [minWeight, maxWeight]
+     * Self-loops and duplicates are skipped, so fewer extra edges may be added.
+     */
+    static Graph randomConnected(String id, int vertexCount, int extraEdges,
+                                 int minWeight, int maxWeight, Random random) {
+        Graph graph = new Graph(id);
+        int weightRange = maxWeight - minWeight + 1;
+        for (int i = 0; i < vertexCount; i++) {
+            graph.addVertex("V" + i);
+        }
+        for (int i = 1; i < vertexCount; i++) {
+            graph.addEdge(new Edge("V" + i, "V" + random.nextInt(i), random.nextInt(weightRange) + minWeight));
+        }
+        for (int i = 0; i < extraEdges; i++) {
+            int a = random.nextInt(vertexCount);
+            int b = random.nextInt(vertexCount);
+            if (a != b && !graph.containsEdge("V" + a, "V" + b)) {
+                graph.addEdge(new Edge("V" + a, "V" + b, random.nextInt(weightRange) + minWeight));
+            }
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,234 @@
+package com.transportation;
+
+import com.transportation.algorithms.CompactPrimAlgorithm;
+import com.transportation.algorithms.DialPrimAlgorithm;
+import com.transportation.algorithms.KKTAlgorithm;
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.MSTAlgorithm;
+import com.transportation.algorithms.MSTSolver;
+import com.transportation.algorithms.MultilevelMSTAlgorithm;
+import com.transportation.algorithms.ParallelKruskalAlgorithm;
+import com.transportation.algorithms.ParallelPrimAlgorithm;
+import com.transportation.algorithms.PrimAlgorithm;
+import com.transportation.algorithms.ScenarioSolver;
+import com.transportation.algorithms.SpanningForestAlgorithm;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import com.transportation.model.VersionedGraph;
+import com.transportation.model.WeightOverlay;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+class VersionedGraphTest {
+
+    private VersionedGraph chain(int vertexCount) {
+        VersionedGraph graph = new VersionedGraph("chain");
+        graph.edit(editor -> {
+            for (int i = 0; i < vertexCount; i++) {
+                editor.addVertex("V" + i);
+            }
+            for (int i = 1; i < vertexCount; i++) {
+                editor.addEdge(new Edge("V" + (i - 1), "V" + i, 10));
+            }
+        });
+        return graph;
+    }
+
+    @Test
+    void testSnapshotUnaffectedByLaterWrites() {
+        VersionedGraph graph = chain(500);
+        VersionedGraph.Snapshot before = graph.current();
+        assertEquals(1, before.getVersion());
+
+        graph.addEdge(new Edge("V0", "V499", 1));
+        graph.setWeight("V10", "V11", 50);
+        graph.removeEdge("V20", "V21");
+
+        assertEquals(4, graph.getVersion());
+        assertEquals(499, before.getEdgeCount());
+        assertFalse(before.containsEdge("V0", "V499"));
+        assertTrue(before.containsEdge("V20", "V21"));
+        assertEquals(10, before.getIncidentEdges("V10").get(0).getWeight());
+        assertEquals(499, before.getEdges().size());
+
+        VersionedGraph.Snapshot after = graph.current();
+        assertEquals(499, after.getEdgeCount());
+        assertEquals(after.getEdgeCount(), after.getEdges().size());
+        assertTrue(after.isConnected());
+    }
+
+    @Test
+    void testMSTRecordsSnapshotVersion() {
+        VersionedGraph graph = chain(50);
+        graph.addEdge(new Edge("V0", "V49", 1));
+        VersionedGraph.Snapshot snapshot = graph.current();
+        graph.setWeight("V0", "V49", 100);
+
+        MSTResult kruskal = new KruskalAlgorithm().findMST(snapshot);
+        MSTResult prim = new PrimAlgorithm().findMST(snapshot);
+        assertEquals(2, kruskal.getSnapshotVersion());
+        assertEquals(2, prim.getSnapshotVersion());
+        assertEquals(1 + 48 * 10, kruskal.getTotalCost());
+        assertEquals(kruskal.getTotalCost(), prim.getTotalCost());
+
+        assertEquals(49 * 10, new KruskalAlgorithm().findMST(graph.current()).getTotalCost());
+        assertEquals(0, new KruskalAlgorithm().findMST(new Graph("plain")).getSnapshotVersion());
+    }
+
+    @Test
+    void testEveryEngineRecordsSnapshotVersion() throws Exception {
+        VersionedGraph graph = chain(200);
+        graph.addEdge(new Edge("V0", "V199", 1));
+        graph.setWeight("V5", "V6", 3);
+        VersionedGraph.Snapshot snapshot = graph.current();
+        assertEquals(3, snapshot.getVersion());
+
+        List<MSTAlgorithm> engines = Arrays.asList(new PrimAlgorithm(), new KruskalAlgorithm(),
+                new DialPrimAlgorithm(), new CompactPrimAlgorithm(), new ParallelPrimAlgorithm(2),
+                new ParallelKruskalAlgorithm(), new KKTAlgorithm(50), new MultilevelMSTAlgorithm(0));
+        for (MSTAlgorithm engine : engines) {
+            MSTResult result = engine.findMST(snapshot);
+            assertEquals(3, result.getSnapshotVersion(), engine.getName());
+            assertEquals(1 + 3 + 197 * 10, result.getTotalCost(), engine.getName());
+        }
+        assertEquals(3, new SpanningForestAlgorithm().findSpanningForest(snapshot).getSnapshotVersion());
+        assertEquals(3, new ScenarioSolver(snapshot)
+                .solve(new WeightOverlay("dear_v5", snapshot).setWeight("V5", "V6", 30)).getSnapshotVersion());
+
+        // The solver stamps the version even for a candidate that leaves it out
+        MSTAlgorithm unstamped = new MSTAlgorithm() {
+            @Override
+            public MSTResult findMST(Graph input) {
+                MSTResult result = new KruskalAlgorithm().findMST(input);
+                return new MSTResult(getName(), result.getMstEdges(), result.getTotalCost(),
+                        result.getExecutionTimeMs(), result.getOperationsCount(), result.getVertexCount(),
+                        result.getEdgeCount());
+            }
+
+            @Override
+            public String getName() {
+                return "Unstamped";
+            }
+        };
+        File dir = Files.createTempDirectory("versioned_solver").toFile();
+        MSTSolver solver = new MSTSolver(Collections.singletonList(unstamped),
+                new File(dir, "profile.properties").getPath());
+        assertEquals(3, solver.findMST(snapshot).getSnapshotVersion());
+    }
+
+    @Test
+    void testSnapshotIsReadOnly() {
+        VersionedGraph graph = chain(3);
+        Graph snapshot = graph.current();
+        assertTrue(snapshot.isFrozen());
+        assertThrows(IllegalStateException.class, () -> snapshot.addVertex("X"));
+        assertThrows(IllegalStateException.class, () -> snapshot.addEdge(new Edge("V0", "V2", 1)));
+        assertThrows(IllegalStateException.class, () -> snapshot.restoreSortedEdges(snapshot.getSortedEdges()));
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdge(new Edge("V0", "V1", 1)));
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdge(new Edge("V0", "X", 1)));
+        assertThrows(IllegalArgumentException.class, () -> graph.removeEdge("V0", "V2"));
+    }
+
+    @Test
+    void testFailedEditPublishesNothing() {
+        VersionedGraph graph = chain(3);
+        VersionedGraph.Snapshot before = graph.current();
+        assertThrows(IllegalArgumentException.class, () -> graph.edit(editor -> {
+            editor.addVertex("V3");
+            editor.addEdge(new Edge("V3", "missing", 1));
+        }));
+        assertSame(before, graph.current());
+        assertFalse(graph.current().containsVertex("V3"));
+    }
+
+    @Test
+    void testManyVerticesAcrossTrieLevels() {
+        VersionedGraph graph = chain(10000);
+        VersionedGraph.Snapshot snapshot = graph.current();
+        assertEquals(10000, snapshot.getVertexCount());
+        assertEquals(10000, snapshot.getVertices().size());
+        assertEquals(9999, snapshot.getEdges().size());
+        assertEquals(2, snapshot.getDegree("V5000"));
+        assertEquals(9999 * 10, new KruskalAlgorithm().findMST(snapshot).getTotalCost());
+
+        // Single-vertex edits leave the earlier snapshot intact
+        graph.addVertex("V10000");
+        graph.addEdge(new Edge("V9999", "V10000", 10));
+        assertEquals(10000, snapshot.getVertexCount());
+        assertFalse(snapshot.containsVertex("V10000"));
+        assertEquals(10001, graph.current().getVertices().size());
+        assertEquals(10000, graph.current().getEdges().size());
+    }
+
+    @Test
+    void testCollidingVertexIds() {
+        // "Aa" and "BB" share a hash code, and so does every string built from them
+        List<String> ids = Arrays.asList("Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB");
+        VersionedGraph graph = new VersionedGraph("collisions");
+        graph.edit(editor -> ids.forEach(editor::addVertex));
+        VersionedGraph.Snapshot vertices = graph.current();
+        for (int i = 1; i < ids.size(); i++) {
+            graph.addEdge(new Edge(ids.get(i - 1), ids.get(i), i));
+        }
+
+        VersionedGraph.Snapshot snapshot = graph.current();
+        assertEquals(6, snapshot.getVertices().size());
+        assertEquals(5, snapshot.getEdges().size());
+        for (String id : ids) {
+            assertTrue(snapshot.containsVertex(id));
+            assertEquals(0, vertices.getDegree(id));
+        }
+        assertEquals(2, snapshot.getDegree("AaBB"));
+        assertTrue(snapshot.containsEdge("BBAa", "BBBB"));
+        assertFalse(snapshot.containsVertex("CC"));
+        assertEquals(1 + 2 + 3 + 4 + 5, new KruskalAlgorithm().findMST(snapshot).getTotalCost());
+    }
+
+    @Test
+    void testConcurrentReadersSeeConsistentSnapshots() throws InterruptedException {
+        int vertexCount = 300;
+        VersionedGraph graph = chain(vertexCount);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread writer = new Thread(() -> {
+            Random random = new Random(50);
+            for (int i = 0; i < 300; i++) {
+                int v = random.nextInt(vertexCount - 1);
+                graph.setWeight("V" + v, "V" + (v + 1), random.nextInt(20) + 1);
+            }
+        });
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            readers.add(new Thread(() -> {
+                for (int i = 0; i < 50 && failure.get() == null; i++) {
+                    VersionedGraph.Snapshot snapshot = graph.current();
+                    int expected = snapshot.getEdges().stream().mapToInt(Edge::getWeight).sum();
+                    MSTResult result = new KruskalAlgorithm().findMST(snapshot);
+                    // On a chain the tree is every edge, so costs agree only if the snapshot held still
+                    if (result.getTotalCost() != expected || result.getSnapshotVersion() != snapshot.getVersion()) {
+                        failure.set("Snapshot " + snapshot.getVersion() + " changed under reader");
+                    }
+                }
+            }));
+        }
+        writer.start();
+        readers.forEach(Thread::start);
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(301, graph.getVersion());
+    }
+}
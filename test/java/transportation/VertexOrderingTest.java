@@ -0,0 +1,89 @@
+package com.transportation;
+
+import com.transportation.algorithms.CompactPrimAlgorithm;
+import com.transportation.algorithms.KruskalAlgorithm;
+import com.transportation.algorithms.VertexOrdering;
+import com.transportation.model.CompactGraph;
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import com.transportation.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+class VertexOrderingTest {
+
+    private Graph gridGraph(int side, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph("test_grid");
+        for (int i = 0; i < side * side; i++) {
+            graph.addVertex("N" + i);
+        }
+        for (int v = 0; v < side * side; v++) {
+            if (v % side + 1 < side) graph.addEdge(new Edge("N" + v, "N" + (v + 1), random.nextInt(20) + 1));
+            if (v + side < side * side) graph.addEdge(new Edge("N" + v, "N" + (v + side), random.nextInt(20) + 1));
+        }
+        return graph;
+    }
+
+    @Test
+    void testOrderingsArePermutationsAndKeepTheMST() {
+        Graph graph = gridGraph(30, 46);
+        int expected = new KruskalAlgorithm().findMST(graph).getTotalCost();
+
+        for (VertexOrdering ordering : VertexOrdering.values()) {
+            int[] order = ordering.order(CompactGraph.of(graph));
+            int[] sorted = order.clone();
+            Arrays.sort(sorted);
+            for (int i = 0; i < sorted.length; i++) {
+                assertEquals(i, sorted[i], ordering + " is not a permutation");
+            }
+
+            MSTResult result = new CompactPrimAlgorithm(ordering).findMST(graph);
+            assertEquals(expected, result.getTotalCost(), ordering.toString());
+            for (Edge edge : result.getMstEdges()) {
+                assertTrue(graph.containsEdge(edge.getSource(), edge.getDestination()));
+            }
+        }
+    }
+
+    @Test
+    void testBreadthFirstOrderingsShrinkNeighborGaps() {
+        Graph graph = gridGraph(40, 7);
+
+        double natural = VertexOrdering.NATURAL.apply(graph).getAverageNeighborGap();
+        double rcm = VertexOrdering.RCM.apply(graph).getAverageNeighborGap();
+
+        assertTrue(rcm < natural / 4, "RCM gap " + rcm + " vs natural " + natural);
+    }
+
+    @Test
+    void testReorderKeepsNamesAndComponents() {
+        Graph graph = Graph.createGraph("test_components", Arrays.asList("A", "B", "C", "D", "E"),
+                Arrays.asList(new Edge("A", "B", 1), new Edge("C", "D", 2)));
+
+        CompactGraph compact = VertexOrdering.RCM.apply(graph);
+
+        assertEquals(3, compact.countComponents());
+        assertFalse(compact.isConnected());
+        for (String name : graph.getVertices()) {
+            assertEquals(name, compact.getVertexName(compact.indexOf(name)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> compact.reorder(new int[]{0, 0, 1, 2, 3}));
+    }
+
+    @Test
+    void testCompactPrimWithDisconnectedGraph() {
+        Graph graph = Graph.createGraph("test_disconnected", Arrays.asList("A", "B", "C", "D"),
+                Arrays.asList(new Edge("A", "B", 1), new Edge("C", "D", 2)));
+
+        for (VertexOrdering ordering : VertexOrdering.values()) {
+            MSTResult result = new CompactPrimAlgorithm(ordering).findMST(graph);
+
+            assertEquals(Integer.MAX_VALUE, result.getTotalCost(), ordering.name());
+            assertEquals(0, result.getMstEdgeCount(), ordering.name());
+        }
+    }
+}
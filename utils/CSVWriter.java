@@ -0,0 +1,218 @@
+package com.transportation.utils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Buffered CSV writer that formats values straight into a reusable char buffer.
+ * Numbers are rendered without String.format, so no String is allocated per row
+ * and the output never depends on the default locale ('.' is always the decimal
+ * separator, as with Locale.ROOT).
+ */
+public class CSVWriter implements Closeable, Flushable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_NUMBER_LENGTH = 64;
+    private static final int MAX_FAST_DECIMALS = 9;
+    // Above this magnitude scaled doubles lose integer precision
+    private static final double MAX_FAST_SCALED = 9.007199254740992E15;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+            10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    private final Writer out;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final char[] digits = new char[20];
+    private int position;
+    private int fieldsInRow;
+
+    public CSVWriter(String filename) throws IOException {
+        this(new OutputStreamWriter(new FileOutputStream(filename), StandardCharsets.UTF_8));
+    }
+
+    public CSVWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes a complete header row
+     */
+    public void writeHeader(String... columns) throws IOException {
+        for (String column : columns) {
+            writeString(column);
+        }
+        endRow();
+    }
+
+    /**
+     * Writes a text field, quoting it if it contains a separator, quote or line break
+     */
+    public void writeString(String value) throws IOException {
+        startField();
+        if (value == null) return;
+
+        if (needsQuoting(value)) {
+            appendChar('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') appendChar('"');
+                appendChar(c);
+            }
+            appendChar('"');
+        } else {
+            append(value);
+        }
+    }
+
+    public void writeInt(int value) throws IOException {
+        startField();
+        append(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        startField();
+        append(value);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        startField();
+        append(value ? "true" : "false");
+    }
+
+    /**
+     * Writes a double rounded half-up to a fixed number of decimals
+     */
+    public void writeDouble(double value, int decimals) throws IOException {
+        startField();
+        append(value, decimals);
+    }
+
+    /**
+     * Starts a new field whose content is assembled with the append methods.
+     * Appended content is written as-is, without quoting.
+     */
+    public void startField() throws IOException {
+        if (fieldsInRow++ > 0) {
+            appendChar(',');
+        }
+    }
+
+    public void append(String text) throws IOException {
+        int offset = 0;
+        while (offset < text.length()) {
+            if (position == buffer.length) flushBuffer();
+            int count = Math.min(text.length() - offset, buffer.length - position);
+            text.getChars(offset, offset + count, buffer, position);
+            position += count;
+            offset += count;
+        }
+    }
+
+    public void append(int value) throws IOException {
+        append((long) value);
+    }
+
+    public void append(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            append(Long.toString(value));
+            return;
+        }
+        ensureCapacity(MAX_NUMBER_LENGTH);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        appendDigits(value, 1);
+    }
+
+    public void append(double value, int decimals) throws IOException {
+        double scaled = decimals < 0 || decimals > MAX_FAST_DECIMALS ? Double.NaN
+                : Math.abs(value) * POWERS_OF_TEN[decimals];
+        // String.format rounds the shortest decimal form of the value half-up. Near a
+        // half-way point that can differ from rounding the scaled double, so those
+        // values take the rare path too.
+        if (!(scaled < MAX_FAST_SCALED)
+                || Math.abs(scaled - Math.floor(scaled) - 0.5) <= 4 * Math.ulp(scaled)) {
+            // Rare path: NaN, infinities, huge values, ties and unusual precisions
+            append(String.format(Locale.ROOT, "%." + Math.max(decimals, 0) + "f", value));
+            return;
+        }
+
+        long rounded = Math.round(scaled);
+        ensureCapacity(MAX_NUMBER_LENGTH);
+        if (Double.doubleToRawLongBits(value) < 0) {
+            buffer[position++] = '-'; // Like String.format, also for -0.0 and values rounding to zero
+        }
+
+        long divisor = POWERS_OF_TEN[decimals];
+        appendDigits(rounded / divisor, 1);
+        if (decimals > 0) {
+            buffer[position++] = '.';
+            appendDigits(rounded % divisor, decimals);
+        }
+    }
+
+    /**
+     * Terminates the current row
+     */
+    public void endRow() throws IOException {
+        appendChar('\n');
+        fieldsInRow = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        } finally {
+            out.close();
+        }
+    }
+
+    // Writes a non-negative number left-padded with zeros to minDigits
+    private void appendDigits(long value, int minDigits) {
+        int count = 0;
+        do {
+            digits[count++] = (char) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+
+        while (count < minDigits) {
+            digits[count++] = '0';
+        }
+        while (count > 0) {
+            buffer[position++] = digits[--count];
+        }
+    }
+
+    private void appendChar(char c) throws IOException {
+        if (position == buffer.length) flushBuffer();
+        buffer[position++] = c;
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (buffer.length - position < length) flushBuffer();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,201 @@
+package com.transportation.utils;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.*;
+
+/**
+ * Opens file streams that transparently compress or decompress based on
+ * the file extension: ".gz" uses gzip, ".deflate" uses zlib deflate,
+ * anything else is read and written as-is.
+ *
+ * Decompression runs on a separate thread that feeds the reader through a
+ * bounded chunk pipe, so parsing and inflating overlap on multi-core machines.
+ */
+public class CompressedStreams {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int PIPE_CHUNKS = 16;
+
+    public enum Compression { NONE, GZIP, DEFLATE }
+
+    /**
+     * Gets the compression implied by a file name
+     */
+    public static Compression forFile(String filename) {
+        String name = filename.toLowerCase();
+        if (name.endsWith(".gz")) return Compression.GZIP;
+        if (name.endsWith(".deflate")) return Compression.DEFLATE;
+        return Compression.NONE;
+    }
+
+    public static boolean isCompressed(String filename) {
+        return forFile(filename) != Compression.NONE;
+    }
+
+    public static InputStream openInput(String filename) throws IOException {
+        File file = new File(filename);
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found: " + filename);
+        }
+
+        InputStream raw = new FileInputStream(file);
+        try {
+            switch (forFile(filename)) {
+                case GZIP:
+                    return new PipedDecompressionStream(new GZIPInputStream(raw, BUFFER_SIZE), filename);
+                case DEFLATE:
+                    // A caller-supplied Inflater is not ended by the stream itself
+                    Inflater inflater = new Inflater();
+                    return new PipedDecompressionStream(new InflaterInputStream(raw, inflater, BUFFER_SIZE) {
+                        @Override
+                        public void close() throws IOException {
+                            try {
+                                super.close();
+                            } finally {
+                                inflater.end();
+                            }
+                        }
+                    }, filename);
+                default:
+                    return new BufferedInputStream(raw, BUFFER_SIZE);
+            }
+        } catch (IOException e) {
+            raw.close();
+            throw e;
+        }
+    }
+
+    public static OutputStream openOutput(String filename) throws IOException {
+        File file = new File(filename);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+
+        OutputStream raw = new FileOutputStream(file);
+        switch (forFile(filename)) {
+            case GZIP:
+                return new BufferedOutputStream(new GZIPOutputStream(raw, BUFFER_SIZE), BUFFER_SIZE);
+            case DEFLATE:
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                return new BufferedOutputStream(new DeflaterOutputStream(raw, deflater, BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            deflater.end();
+                        }
+                    }
+                }, BUFFER_SIZE);
+            default:
+                return new BufferedOutputStream(raw, BUFFER_SIZE);
+        }
+    }
+
+    /**
+     * Input stream whose data is produced by a background decompression thread
+     * The worker owns the source and closes it when it stops, so the source is
+     * never closed while the worker is still inflating from it.
+     */
+    private static class PipedDecompressionStream extends InputStream {
+        private static final byte[] END = new byte[0];
+
+        private final BlockingQueue<byte[]> pipe = new ArrayBlockingQueue<>(PIPE_CHUNKS);
+        private final InputStream source;
+        private final Thread worker;
+        private volatile IOException failure;
+        private byte[] current;
+        private int position;
+        private boolean finished;
+
+        PipedDecompressionStream(InputStream source, String name) {
+            this.source = source;
+            this.worker = new Thread(this::pump, "decompress-" + new File(name).getName());
+            this.worker.setDaemon(true);
+            this.worker.start();
+        }
+
+        private void pump() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    byte[] chunk = new byte[BUFFER_SIZE];
+                    int length = source.readNBytes(chunk, 0, chunk.length);
+                    if (length == 0) break;
+                    pipe.put(length == chunk.length ? chunk : Arrays.copyOf(chunk, length));
+                }
+            } catch (IOException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                // Forwarded to the reader instead of dying on this thread
+                failure = new IOException("Decompression failed", e);
+            } catch (InterruptedException e) {
+                closeSource();
+                return; // Reader closed the stream
+            }
+
+            closeSource();
+            try {
+                pipe.put(END);
+            } catch (InterruptedException ignored) {
+                // Reader closed the stream
+            }
+        }
+
+        private void closeSource() {
+            try {
+                source.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+            }
+        }
+
+        // Ensures a chunk with unread data is available, returns false at end of stream
+        private boolean fill() throws IOException {
+            while (!finished && (current == null || position == current.length)) {
+                try {
+                    current = pipe.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for decompressed data");
+                }
+                position = 0;
+                if (current == END) {
+                    finished = true;
+                    if (failure != null) throw failure;
+                }
+            }
+            return !finished;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return fill() ? current[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) return 0;
+            if (!fill()) return -1;
+
+            int count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            finished = true;
+            worker.interrupt();
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                // The worker still closes the source when it stops
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while closing decompression stream");
+            }
+        }
+    }
+}
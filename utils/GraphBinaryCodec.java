@@ -0,0 +1,109 @@
+package com.transportation.utils;
+
+import com.transportation.model.Edge;
+import com.transportation.model.Graph;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Compact binary encoding of a single graph
+ * Vertices are written once and edges refer to them by index,
+ * which is far smaller and faster to parse than the Gson JSON form.
+ * Edges are stored in weight order, so reading a graph also restores
+ * its sorted edge index and Kruskal can skip sorting.
+ */
+public class GraphBinaryCodec {
+
+    public static void writeGraph(Graph graph, DataOutput out) throws IOException {
+        List<String> vertices = graph.getVertices();
+        Map<String, Integer> vertexIndex = new HashMap<>(vertices.size() * 2);
+
+        out.writeUTF(graph.getId());
+        out.writeBoolean(graph.isDirected());
+        out.writeInt(vertices.size());
+        for (int i = 0; i < vertices.size(); i++) {
+            out.writeUTF(vertices.get(i));
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        List<Edge> edges = graph.getSortedEdges();
+        out.writeInt(edges.size());
+        for (Edge edge : edges) {
+            out.writeInt(vertexIndex.get(edge.getSource()));
+            out.writeInt(vertexIndex.get(edge.getDestination()));
+            out.writeInt(edge.getWeight());
+        }
+    }
+
+    public static Graph readGraph(DataInput in) throws IOException {
+        String id = in.readUTF();
+        boolean directed = in.readBoolean();
+        Graph graph = new Graph(id, directed);
+
+        int vertexCount = in.readInt();
+        String[] vertices = new String[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            vertices[i] = in.readUTF();
+            graph.addVertex(vertices[i]);
+        }
+
+        int edgeCount = in.readInt();
+        List<Edge> edges = new ArrayList<>(edgeCount);
+        boolean sorted = true;
+        for (int i = 0; i < edgeCount; i++) {
+            String source = vertices[in.readInt()];
+            String destination = vertices[in.readInt()];
+            Edge edge = new Edge(source, destination, in.readInt());
+            if (i > 0 && edges.get(i - 1).getWeight() > edge.getWeight()) {
+                sorted = false;
+            }
+            edges.add(edge);
+            graph.addEdge(edge);
+        }
+
+        // Duplicate edges collapse in the graph, so only restore a complete index
+        if (sorted && edges.size() == graph.getEdgeCount()) {
+            graph.restoreSortedEdges(edges);
+        }
+
+        return graph;
+    }
+
+    /**
+     * Writes graphs to a binary file, compressed when the name ends in .gz or .deflate
+     */
+    public static void writeGraphsToFile(List<Graph> graphs, String filename) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(CompressedStreams.openOutput(filename))) {
+            out.writeInt(graphs.size());
+            for (Graph graph : graphs) {
+                writeGraph(graph, out);
+            }
+        }
+    }
+
+    public static List<Graph> readGraphsFromFile(String filename) throws IOException {
+        try (DataInputStream in = new DataInputStream(CompressedStreams.openInput(filename))) {
+            int count = in.readInt();
+            List<Graph> graphs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                graphs.add(readGraph(in));
+            }
+            return graphs;
+        }
+    }
+
+    /**
+     * Encodes a graph into a standalone byte array
+     */
+    public static byte[] toBytes(Graph graph) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeGraph(graph, out);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Graph fromBytes(byte[] data) throws IOException {
+        return readGraph(new DataInputStream(new ByteArrayInputStream(data)));
+    }
+}
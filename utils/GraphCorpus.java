@@ -0,0 +1,279 @@
+package com.transportation.utils;
+
+import com.transportation.model.Graph;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Random-access container holding many graphs in one file
+ *
+ * Layout: header (magic, version, flags, index offset), the binary encoded
+ * graphs one after another, then an index with the byte range and summary
+ * stats of every graph. Opening a corpus only reads the index; graphs are
+ * decoded on demand with positional reads, so a single graph or a category
+ * can be loaded without touching the rest of the file.
+ *
+ * A corpus named "*.gz" or "*.deflate" deflates every graph separately, which
+ * keeps the index seekable while shrinking the file.
+ */
+public class GraphCorpus implements Closeable {
+    private static final int MAGIC = 0x4D535443; // "MSTC"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 20;
+    private static final int FLAG_DEFLATED = 1;
+
+    private final FileChannel channel;
+    private final Map<String, Entry> entries;
+    private final boolean deflated;
+
+    /**
+     * Index entry describing one graph stored in the corpus
+     */
+    public static class Entry {
+        private final String id;
+        private final String category;
+        private final int vertexCount;
+        private final int edgeCount;
+        private final double density;
+        private final long offset;
+        private final int length;
+
+        Entry(String id, String category, int vertexCount, int edgeCount,
+              double density, long offset, int length) {
+            this.id = id;
+            this.category = category;
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+            this.density = density;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        // Getters
+        public String getId() { return id; }
+        public String getCategory() { return category; }
+        public int getVertexCount() { return vertexCount; }
+        public int getEdgeCount() { return edgeCount; }
+        public double getDensity() { return density; }
+        public long getOffset() { return offset; }
+        public int getLength() { return length; }
+
+        @Override
+        public String toString() {
+            return String.format("Entry{id='%s', category='%s', vertices=%d, edges=%d, density=%.4f, bytes=%d}",
+                    id, category, vertexCount, edgeCount, density, length);
+        }
+    }
+
+    private GraphCorpus(FileChannel channel, Map<String, Entry> entries, boolean deflated) {
+        this.channel = channel;
+        this.entries = entries;
+        this.deflated = deflated;
+    }
+
+    /**
+     * Writes all graphs into a single corpus file
+     */
+    public static void write(List<Graph> graphs, String filename) throws IOException {
+        File file = new File(filename);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+
+        boolean deflate = CompressedStreams.isCompressed(filename);
+        List<Entry> index = new ArrayList<>();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(0);
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(raf.getChannel())));
+
+            // Header with a placeholder index offset
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(deflate ? FLAG_DEFLATED : 0);
+            out.writeLong(0L);
+
+            long offset = HEADER_SIZE;
+            for (Graph graph : graphs) {
+                byte[] payload = GraphBinaryCodec.toBytes(graph);
+                if (deflate) {
+                    payload = deflate(payload);
+                }
+                out.write(payload);
+                index.add(new Entry(graph.getId(), getGraphCategory(graph.getId()),
+                        graph.getVertexCount(), graph.getEdgeCount(), graph.getDensity(),
+                        offset, payload.length));
+                offset += payload.length;
+            }
+
+            out.writeInt(index.size());
+            for (Entry entry : index) {
+                out.writeUTF(entry.id);
+                out.writeUTF(entry.category);
+                out.writeInt(entry.vertexCount);
+                out.writeInt(entry.edgeCount);
+                out.writeDouble(entry.density);
+                out.writeLong(entry.offset);
+                out.writeInt(entry.length);
+            }
+            out.flush();
+
+            // Patch the index offset now that it is known
+            raf.seek(12);
+            raf.writeLong(offset);
+        }
+    }
+
+    /**
+     * Opens a corpus reading only its header and index
+     */
+    public static GraphCorpus open(String filename) throws IOException {
+        File file = new File(filename);
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found: " + filename);
+        }
+
+        FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a graph corpus file: " + filename);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported corpus version " + version + " in " + filename);
+            }
+            int flags = header.getInt();
+            long indexOffset = header.getLong();
+
+            channel.position(indexOffset);
+            DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Channels.newInputStream(channel)));
+            int count = in.readInt();
+            Map<String, Entry> entries = new LinkedHashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                Entry entry = new Entry(in.readUTF(), in.readUTF(), in.readInt(), in.readInt(),
+                        in.readDouble(), in.readLong(), in.readInt());
+                entries.put(entry.id, entry);
+            }
+            return new GraphCorpus(channel, entries, (flags & FLAG_DEFLATED) != 0);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets index entries of all graphs in file order
+     */
+    public List<Entry> getEntries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    public Entry getEntry(String graphId) {
+        return entries.get(graphId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Filters the index without loading any graph
+     */
+    public List<Entry> select(Predicate<Entry> filter) {
+        return entries.values().stream().filter(filter).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the entries of one category, e.g. "extra-large"
+     */
+    public List<Entry> getCategory(String category) {
+        return select(entry -> entry.category.equals(category));
+    }
+
+    /**
+     * Loads a single graph by id
+     */
+    public Graph load(String graphId) throws IOException {
+        Entry entry = entries.get(graphId);
+        if (entry == null) {
+            throw new IllegalArgumentException("Graph " + graphId + " is not in the corpus");
+        }
+        return load(entry);
+    }
+
+    public Graph load(Entry entry) throws IOException {
+        ByteBuffer payload = ByteBuffer.allocate(entry.length);
+        readFully(channel, payload, entry.offset);
+        if (deflated) {
+            try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+                    new ByteArrayInputStream(payload.array())))) {
+                return GraphBinaryCodec.readGraph(in);
+            }
+        }
+        return GraphBinaryCodec.fromBytes(payload.array());
+    }
+
+    public boolean isDeflated() {
+        return deflated;
+    }
+
+    public List<Graph> loadAll(List<Entry> selection) throws IOException {
+        List<Graph> graphs = new ArrayList<>(selection.size());
+        for (Entry entry : selection) {
+            graphs.add(load(entry));
+        }
+        return graphs;
+    }
+
+    public List<Graph> loadAll() throws IOException {
+        return loadAll(getEntries());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+            out.write(data);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    // Positional read, independent of the channel position
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Unexpected end of corpus file");
+            }
+        }
+    }
+
+    private static String getGraphCategory(String graphId) {
+        if (graphId.startsWith("small")) return "small";
+        if (graphId.startsWith("medium")) return "medium";
+        if (graphId.startsWith("large")) return "large";
+        if (graphId.startsWith("xlarge")) return "extra-large";
+        return "unknown";
+    }
+}
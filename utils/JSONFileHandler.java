@@ -1,11 +1,17 @@
 package com.transportation.utils;
 
 import com.transportation.model.Graph;
+import com.transportation.model.GraphResult;
+import com.transportation.model.MSTResult;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 public class JSONFileHandler {
@@ -17,77 +23,86 @@ public class JSONFileHandler {
         data.put("generated_at", new Date().toString());
         data.put("total_graphs", graphs.size());
 
-        // Create parent directories if they don't exist
-        File file = new File(filename);
-        file.getParentFile().mkdirs();
-
-        try (FileWriter writer = new FileWriter(file)) {
+        // Compression is chosen by extension, e.g. input.json.gz
+        try (Writer writer = openWriter(filename)) {
             gson.toJson(data, writer);
         }
     }
 
     public static List<Graph> readGraphsFromFile(String filename) throws IOException {
-        File file = new File(filename);
-        if (!file.exists()) {
-            throw new FileNotFoundException("File not found: " + filename);
-        }
-
-        try (FileReader reader = new FileReader(file)) {
-            Type type = new TypeToken<Map<String, List<Graph>>>(){}.getType();
-            Map<String, List<Graph>> data = gson.fromJson(reader, type);
-            return data != null ? data.get("graphs") : new ArrayList<>();
+        try (JsonReader reader = new JsonReader(openReader(filename))) {
+            // Only "graphs" holds graphs; total_graphs and generated_at sit next to it.
+            // Streamed so the file is never held as a JSON tree next to the graphs.
+            Type type = new TypeToken<List<Graph>>(){}.getType();
+            List<Graph> graphs = new ArrayList<>();
+            if (reader.peek() == JsonToken.END_DOCUMENT) return graphs;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("graphs".equals(reader.nextName())) {
+                    graphs = gson.fromJson(reader, type);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return graphs;
         }
     }
 
-    public static void writeResultsToFile(List<Map<String, Object>> results, String filename) throws IOException {
-        // Convert all numeric values to Double for consistent JSON serialization
-        List<Map<String, Object>> processedResults = new ArrayList<>();
-        for (Map<String, Object> result : results) {
-            Map<String, Object> processedResult = new HashMap<>();
+    public static void writeResultsToFile(List<GraphResult> results, String filename) throws IOException {
+        // Stream every result straight to the file, keeping integer fields as integers
+        try (JsonWriter writer = new JsonWriter(openWriter(filename))) {
+            writer.setIndent("  ");
+            writer.beginObject();
+            writer.name("total_graphs").value(results.size());
+            writer.name("timestamp").value(new Date().toString());
 
-            for (Map.Entry<String, Object> entry : result.entrySet()) {
-                Object value = entry.getValue();
+            writer.name("results").beginArray();
+            for (GraphResult result : results) {
+                writeResult(writer, result);
+            }
+            writer.endArray();
 
-                // Convert numeric types to Double for consistent JSON handling
-                if (value instanceof Integer) {
-                    processedResult.put(entry.getKey(), ((Integer) value).doubleValue());
-                } else if (value instanceof Long) {
-                    processedResult.put(entry.getKey(), ((Long) value).doubleValue());
-                } else if (value instanceof Map) {
-                    // Process nested maps
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> nestedMap = (Map<String, Object>) value;
-                    Map<String, Object> processedNestedMap = new HashMap<>();
+            writer.endObject();
+        }
+    }
 
-                    for (Map.Entry<String, Object> nestedEntry : nestedMap.entrySet()) {
-                        Object nestedValue = nestedEntry.getValue();
-                        if (nestedValue instanceof Integer) {
-                            processedNestedMap.put(nestedEntry.getKey(), ((Integer) nestedValue).doubleValue());
-                        } else if (nestedValue instanceof Long) {
-                            processedNestedMap.put(nestedEntry.getKey(), ((Long) nestedValue).doubleValue());
-                        } else {
-                            processedNestedMap.put(nestedEntry.getKey(), nestedValue);
-                        }
-                    }
-                    processedResult.put(entry.getKey(), processedNestedMap);
-                } else {
-                    processedResult.put(entry.getKey(), value);
-                }
-            }
-            processedResults.add(processedResult);
+    private static void writeResult(JsonWriter writer, GraphResult result) throws IOException {
+        writer.beginObject();
+        writer.name("graph_id").value(result.getGraphId());
+        writer.name("vertex_count").value(result.getVertexCount());
+        writer.name("edge_count").value(result.getEdgeCount());
+        writer.name("category").value(result.getCategory());
+        writer.name("graph_density").value(result.getGraphDensity());
+        writer.name("is_connected").value(result.isConnected());
+        // Prim and the cost comparison are only present when Prim was run
+        if (result.hasPrim()) {
+            writer.name("prim");
+            writeAlgorithmResult(writer, result.getPrim());
+        }
+        writer.name("kruskal");
+        writeAlgorithmResult(writer, result.getKruskal());
+        if (result.hasPrim()) {
+            writer.name("costs_consistent").value(result.isCostsConsistent());
         }
+        writer.name("mst_verified").value(result.isVerified());
+        writer.endObject();
+    }
 
-        Map<String, Object> output = new HashMap<>();
-        output.put("results", processedResults);
-        output.put("timestamp", new Date().toString());
-        output.put("total_graphs", processedResults.size());
+    private static Writer openWriter(String filename) throws IOException {
+        return new OutputStreamWriter(CompressedStreams.openOutput(filename), StandardCharsets.UTF_8);
+    }
 
-        // Create parent directories if they don't exist
-        File file = new File(filename);
-        file.getParentFile().mkdirs();
+    private static Reader openReader(String filename) throws IOException {
+        return new InputStreamReader(CompressedStreams.openInput(filename), StandardCharsets.UTF_8);
+    }
 
-        try (FileWriter writer = new FileWriter(file)) {
-            gson.toJson(output, writer);
-        }
+    private static void writeAlgorithmResult(JsonWriter writer, MSTResult result) throws IOException {
+        writer.beginObject();
+        writer.name("total_cost").value(result.getTotalCost());
+        writer.name("execution_time_ms").value(result.getExecutionTimeMs());
+        writer.name("operations_count").value(result.getOperationsCount());
+        writer.name("mst_edges_count").value(result.getMstEdgeCount());
+        writer.endObject();
     }
-}
\ No newline at end of file
+}